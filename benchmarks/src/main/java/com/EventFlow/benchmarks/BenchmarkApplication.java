@@ -0,0 +1,48 @@
+package com.EventFlow.benchmarks;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.EventFlow.backend.EventFlowApplication;
+import com.EventFlow.backend.model.User;
+import com.EventFlow.backend.security.AuthenticatedUserToken;
+
+import java.util.Collections;
+import java.util.UUID;
+
+// Boots the backend against a private in-memory H2 database for one benchmark trial
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... extraArgs) {
+        String[] args = {
+                // Command line arguments take precedence over the application.properties packaged with the backend
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--logging.level.root=WARN"
+        };
+        String[] allArgs = new String[args.length + extraArgs.length];
+        System.arraycopy(args, 0, allArgs, 0, args.length);
+        System.arraycopy(extraArgs, 0, allArgs, args.length, extraArgs.length);
+        return new SpringApplicationBuilder(EventFlowApplication.class).run(allArgs);
+    }
+
+    // Makes the calling thread act as the given user, the same way an authenticated request does
+    public static void authenticate(User user) {
+        Jwt jwt = Jwt.withTokenValue("benchmark")
+                .header("alg", "HS256")
+                .subject(String.valueOf(user.getId()))
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new AuthenticatedUserToken(jwt, user, Collections.emptyList()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.EventFlow.benchmarks;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.EventFlow.backend.model.*;
+import com.EventFlow.backend.repository.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Seeds the benchmark database through the backend's own repositories
+public class BenchmarkData {
+
+    // Main event order n starts n - 1 hours after this and lasts two hours
+    public static final LocalDateTime FIRST_START = LocalDateTime.of(2025, 1, 1, 10, 0);
+    // Sub events get the same layout a year earlier, so they never share a date range window with main events
+    private static final LocalDateTime FIRST_SUB_EVENT_START = FIRST_START.minusYears(1);
+
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final UserEventRepository userEventRepository;
+    private final AgendaItemRepository agendaItemRepository;
+    private final EventInvitationRepository eventInvitationRepository;
+
+    public BenchmarkData(ConfigurableApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.eventRepository = context.getBean(EventRepository.class);
+        this.userEventRepository = context.getBean(UserEventRepository.class);
+        this.agendaItemRepository = context.getBean(AgendaItemRepository.class);
+        this.eventInvitationRepository = context.getBean(EventInvitationRepository.class);
+    }
+
+    public User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("benchmark");
+        return userRepository.save(user);
+    }
+
+    // Main events (hierarchy 1) for the owner; every third one is done so the unfinished filter has work to do
+    public List<Event> mainEvents(User owner, int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Event event = newEvent("Event " + i, count - i, FIRST_START);
+            event.setDone(i % 3 == 0);
+            events.add(event);
+        }
+        events = eventRepository.saveAll(events);
+        link(owner, events, 1);
+        return events;
+    }
+
+    public List<Event> subEvents(User owner, Event mainEvent, int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(newEvent("Sub event " + i, count - i, FIRST_SUB_EVENT_START));
+        }
+        events = eventRepository.saveAll(events);
+        List<AgendaItem> agendaItems = new ArrayList<>(count);
+        for (Event event : events) {
+            agendaItems.add(new AgendaItem(null, mainEvent, event));
+        }
+        agendaItemRepository.saveAll(agendaItems);
+        link(owner, events, 2);
+        return events;
+    }
+
+    public void invitations(User owner, User contact, List<Event> events, InvitationStatus status) {
+        List<InvitedEvent> invitations = new ArrayList<>(events.size());
+        for (Event event : events) {
+            invitations.add(new InvitedEvent(null, event, owner, contact, status));
+        }
+        eventInvitationRepository.saveAll(invitations);
+    }
+
+    private void link(User user, List<Event> events, int hierarchy) {
+        List<UserEvent> userEvents = new ArrayList<>(events.size());
+        for (Event event : events) {
+            userEvents.add(new UserEvent(null, user, event, hierarchy));
+        }
+        userEventRepository.saveAll(userEvents);
+    }
+
+    private static Event newEvent(String description, int order, LocalDateTime firstStart) {
+        LocalDateTime start = firstStart.plusHours(order - 1);
+        return new Event(description, order % 5, "Berlin", "work", start, start.plusHours(2), order);
+    }
+}
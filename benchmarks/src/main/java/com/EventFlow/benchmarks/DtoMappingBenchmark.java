@@ -0,0 +1,66 @@
+package com.EventFlow.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.EventFlow.backend.dto.AgendaItemDTO;
+import com.EventFlow.backend.dto.EventDTO;
+import com.EventFlow.backend.model.AgendaItem;
+import com.EventFlow.backend.model.Event;
+import com.EventFlow.backend.model.User;
+import com.EventFlow.backend.model.UserEvent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Cost of building the response DTOs from already loaded entities
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DtoMappingBenchmark {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private List<UserEvent> userEvents;
+    private List<AgendaItem> agendaItems;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+        Event mainEvent = new Event("Main", 1, "Berlin", "work", LocalDateTime.now(), LocalDateTime.now().plusDays(1), 0);
+        mainEvent.setId(0L);
+
+        userEvents = new ArrayList<>(size);
+        agendaItems = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Event event = new Event("Event " + i, i % 5, "Berlin", "work", LocalDateTime.now(), LocalDateTime.now().plusHours(2), i);
+            event.setId((long) i + 1);
+            userEvents.add(new UserEvent((long) i, user, event, 1));
+            agendaItems.add(new AgendaItem((long) i, mainEvent, event));
+        }
+    }
+
+    @Benchmark
+    public List<EventDTO> eventDTOs() {
+        List<EventDTO> result = new ArrayList<>(size);
+        for (UserEvent userEvent : userEvents) {
+            result.add(new EventDTO(userEvent.getEvent(), userEvent));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<AgendaItemDTO> agendaItemDTOs() {
+        List<AgendaItemDTO> result = new ArrayList<>(size);
+        for (AgendaItem agendaItem : agendaItems) {
+            result.add(new AgendaItemDTO(agendaItem));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,120 @@
+package com.EventFlow.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.EventFlow.backend.dto.AgendaItemDTO;
+import com.EventFlow.backend.dto.CursorPageDTO;
+import com.EventFlow.backend.dto.EventDTO;
+import com.EventFlow.backend.dto.EventRangeDTO;
+import com.EventFlow.backend.dto.EventTreeDTO;
+import com.EventFlow.backend.model.Event;
+import com.EventFlow.backend.model.User;
+import com.EventFlow.backend.service.EventService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// EventService listings against an H2 database seeded with eventCount main events and subEventCount sub events
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"100", "1000", "10000"})
+        public int eventCount;
+
+        @Param({"200"})
+        public int subEventCount;
+
+        ConfigurableApplicationContext context;
+        EventService eventService;
+        User owner;
+        Long mainEventId;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkApplication.start();
+            eventService = context.getBean(EventService.class);
+
+            BenchmarkData data = new BenchmarkData(context);
+            owner = data.user("owner@example.com");
+            List<Event> events = data.mainEvents(owner, eventCount);
+            mainEventId = events.get(0).getId();
+            data.subEvents(owner, events.get(0), subEventCount);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    // Where the one-day getEventsInRange window sits in the seeded timeline. Main events start one hour apart, so
+    // every position overlaps the same number of rows and the cost should stay flat while the table grows. H2 only
+    // has the (start_date, due_date) btree, so later positions show the cost PostgreSQL has before db/event-range.sql
+    @State(Scope.Benchmark)
+    public static class Range {
+        @Param({"start", "middle", "end"})
+        public String position;
+
+        LocalDateTime from;
+        LocalDateTime to;
+
+        @Setup(Level.Trial)
+        public void setUp(Data data) {
+            int lastWindowHour = Math.max(data.eventCount - 24, 0);
+            int windowHour = switch (position) {
+                case "start" -> 0;
+                case "middle" -> lastWindowHour / 2;
+                case "end" -> lastWindowHour;
+                default -> throw new IllegalArgumentException("Unknown position " + position);
+            };
+            from = BenchmarkData.FIRST_START.plusHours(windowHour);
+            to = from.plusDays(1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+        @Setup(Level.Trial)
+        public void setUp(Data data) {
+            BenchmarkApplication.authenticate(data.owner);
+        }
+    }
+
+    @Benchmark
+    public List<EventDTO> getUserEvents(Data data, Caller caller) {
+        return data.eventService.getUserEvents(false);
+    }
+
+    @Benchmark
+    public List<EventDTO> getUserEventsUnfinished(Data data, Caller caller) {
+        return data.eventService.getUserEvents(true);
+    }
+
+    @Benchmark
+    public CursorPageDTO<EventDTO> getUserEventsFirstPage(Data data, Caller caller) {
+        return data.eventService.getUserEvents(false, null, 50);
+    }
+
+    @Benchmark
+    public List<AgendaItemDTO> getAgendaItems(Data data, Caller caller) {
+        return data.eventService.getAgendaItems(data.mainEventId);
+    }
+
+    @Benchmark
+    public EventTreeDTO getEventTree(Data data, Caller caller) {
+        return data.eventService.getEventTree(data.mainEventId);
+    }
+
+    @Benchmark
+    public EventRangeDTO getEventsInRange(Data data, Range range, Caller caller) {
+        return data.eventService.getEventsInRange(range.from, range.to);
+    }
+}
@@ -0,0 +1,68 @@
+package com.EventFlow.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.EventFlow.backend.dto.InvitedEventDTO;
+import com.EventFlow.backend.model.Event;
+import com.EventFlow.backend.model.InvitationStatus;
+import com.EventFlow.backend.model.User;
+import com.EventFlow.backend.service.EventInvitationService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Invitation inbox hydration: invitationCount pending and invitationCount accepted invitations for one contact
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InvitationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"10", "100", "1000"})
+        public int invitationCount;
+
+        ConfigurableApplicationContext context;
+        EventInvitationService invitationService;
+        User contact;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkApplication.start();
+            invitationService = context.getBean(EventInvitationService.class);
+
+            BenchmarkData data = new BenchmarkData(context);
+            User owner = data.user("owner@example.com");
+            contact = data.user("contact@example.com");
+            List<Event> events = data.mainEvents(owner, invitationCount * 2);
+            data.invitations(owner, contact, events.subList(0, invitationCount), InvitationStatus.INVITED);
+            data.invitations(owner, contact, events.subList(invitationCount, events.size()), InvitationStatus.ACCEPTED);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+        @Setup(Level.Trial)
+        public void setUp(Data data) {
+            BenchmarkApplication.authenticate(data.contact);
+        }
+    }
+
+    @Benchmark
+    public List<InvitedEventDTO> getPendingInvitations(Data data, Caller caller) {
+        return data.invitationService.getPendingInvitations();
+    }
+
+    @Benchmark
+    public List<InvitedEventDTO> getInvitedEvents(Data data, Caller caller) {
+        return data.invitationService.getInvitedEvents();
+    }
+}
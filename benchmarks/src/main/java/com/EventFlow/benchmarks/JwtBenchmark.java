@@ -0,0 +1,43 @@
+package com.EventFlow.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import com.EventFlow.backend.security.JwtUtil;
+import com.EventFlow.backend.security.SecurityConfig;
+
+import java.util.concurrent.TimeUnit;
+
+// Token issuing (JwtUtil) and validation (the decoder configured in SecurityConfig) paid on login / every request
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtDecoder jwtDecoder;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        jwtDecoder = new SecurityConfig(jwtUtil, null).jwtDecoder(new SimpleMeterRegistry());
+        token = jwtUtil.generateToken(42L, "benchmark@example.com");
+    }
+
+    @Benchmark
+    public String encode() {
+        return jwtUtil.generateToken(42L, "benchmark@example.com");
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return jwtDecoder.decode(token);
+    }
+}
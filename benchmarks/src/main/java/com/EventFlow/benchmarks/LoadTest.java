@@ -0,0 +1,272 @@
+package com.EventFlow.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Closed-loop HTTP load test comparing the default Tomcat worker pool with the virtual-threads profile.
+// `concurrency` clients send requests back to back against a freshly booted backend (one per mode) and
+// the run reports throughput, latency percentiles, and the peak threads and heap of the server. The backend
+// runs as LoadTestServer in a JVM of its own so those peaks are the server's alone; the clients' own peaks
+// are reported separately as client overhead.
+//
+//   mvn -f benchmarks/pom.xml package exec:exec -Pload-test -Dload.args="concurrency=800 duration=60"
+//
+// The virtual mode needs Java 21 for the server JVM: -Dload.java=/path/to/jdk-21/bin/java
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        List<String> modes = Arrays.asList(options.getOrDefault("modes", "platform,virtual").split(","));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int eventCount = Integer.parseInt(options.getOrDefault("events", "500"));
+        String path = options.getOrDefault("path", "/api/events/?limit=50");
+        String serverJava = options.getOrDefault("java", ProcessHandle.current().info().command().orElse("java"));
+
+        System.out.printf("Client Java %d, server %s, %d clients, %ds warmup + %ds measured, GET %s over %d events%n",
+                Runtime.version().feature(), serverJava, concurrency, warmupSeconds, durationSeconds, path, eventCount);
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : modes) {
+            results.add(run(mode.trim(), serverJava, concurrency, warmupSeconds, durationSeconds, eventCount, path));
+        }
+
+        System.out.println();
+        System.out.printf("%-9s %10s %9s %9s %9s %9s %8s %13s %11s %15s %13s%n",
+                "mode", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors", "peak threads", "peak heap",
+                "client threads", "client heap");
+        for (Result result : results) {
+            System.out.println(result);
+        }
+    }
+
+    private static Result run(String mode, String serverJava, int concurrency, int warmupSeconds, int durationSeconds,
+                              int eventCount, String path) throws Exception {
+        String[] springArgs = switch (mode) {
+            case "platform" -> new String[0];
+            case "virtual" -> new String[] { "--spring.profiles.active=virtual-threads" };
+            default -> throw new IllegalArgumentException("Unknown mode " + mode + " (expected platform or virtual)");
+        };
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try (Server server = Server.start(serverJava, eventCount, springArgs)) {
+            if ("virtual".equals(mode) && server.javaVersion < 21) {
+                System.out.println("WARNING: virtual mode on Java " + server.javaVersion + " still runs on platform threads");
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.port + path))
+                    .header("Authorization", "Bearer " + server.token)
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            long start = System.nanoTime();
+            long measureFrom = start + Duration.ofSeconds(warmupSeconds).toNanos();
+            long end = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .toList();
+
+            List<Future<Recorder>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> drive(client, request, measureFrom, end)));
+            }
+
+            // 🔹 Peaks are reset once warmup is over so startup and seeding do not count, in both JVMs
+            Thread.sleep(Duration.ofSeconds(warmupSeconds).toMillis());
+            server.resetPeaks();
+            threads.resetPeakThreadCount();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+            Recorder total = new Recorder();
+            for (Future<Recorder> future : futures) {
+                total.merge(future.get());
+            }
+            long[] serverPeaks = server.peaks();
+            long clientPeakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            return new Result(mode, total, durationSeconds, (int) serverPeaks[0], serverPeaks[1],
+                    threads.getPeakThreadCount(), clientPeakHeap);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static Recorder drive(HttpClient client, HttpRequest request, long measureFrom, long end) {
+        Recorder recorder = new Recorder();
+        long sent;
+        while ((sent = System.nanoTime()) < end) {
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (Exception e) {
+                ok = false;
+            }
+            if (sent >= measureFrom) {
+                recorder.record(System.nanoTime() - sent, ok);
+            }
+        }
+        return recorder;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value, got " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    // Per-client latency log; merged once the run is over so the hot loop never contends
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        void record(long latencyNanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void merge(Recorder other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    // The backend in its own JVM; see LoadTestServer for the line protocol on its stdin / stdout
+    private static final class Server implements AutoCloseable {
+        private final Process process;
+        private final BufferedReader output;
+        private final PrintWriter input;
+        final String port;
+        final String token;
+        final int javaVersion;
+
+        static Server start(String java, int eventCount, String[] springArgs) throws IOException {
+            List<String> command = new ArrayList<>(List.of(java, "-cp", System.getProperty("java.class.path"),
+                    LoadTestServer.class.getName(), "events=" + eventCount));
+            command.addAll(Arrays.asList(springArgs));
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+            String line;
+            while ((line = output.readLine()) != null && !line.startsWith(LoadTestServer.READY + " ")) {
+                // startup logging
+            }
+            if (line == null) {
+                throw new IllegalStateException("Load test server exited before it was ready");
+            }
+            return new Server(process, output, line.split(" "));
+        }
+
+        private Server(Process process, BufferedReader output, String[] ready) {
+            this.process = process;
+            this.output = output;
+            this.input = new PrintWriter(process.getOutputStream(), true, StandardCharsets.UTF_8);
+            this.port = ready[1];
+            this.token = ready[2];
+            this.javaVersion = Integer.parseInt(ready[3]);
+        }
+
+        void resetPeaks() throws IOException {
+            ask("reset", "OK");
+        }
+
+        // { peak threads, peak heap bytes } since the last reset
+        long[] peaks() throws IOException {
+            String[] stats = ask("stats", LoadTestServer.STATS).split(" ");
+            return new long[] { Long.parseLong(stats[1]), Long.parseLong(stats[2]) };
+        }
+
+        private String ask(String command, String expected) throws IOException {
+            input.println(command);
+            String line;
+            while ((line = output.readLine()) != null && !line.startsWith(expected)) {
+                // server logging
+            }
+            if (line == null) {
+                throw new IllegalStateException("Load test server exited while waiting for " + expected);
+            }
+            return line;
+        }
+
+        @Override
+        public void close() throws Exception {
+            input.println("stop");
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private record Result(String mode, Recorder recorder, int durationSeconds, int peakThreads, long peakHeapBytes,
+                          int clientPeakThreads, long clientPeakHeapBytes) {
+
+        Result {
+            Arrays.sort(recorder.latencies, 0, recorder.count);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-9s %10.1f %9.2f %9.2f %9.2f %9.2f %8d %13d %8d MB %15d %10d MB",
+                    mode,
+                    recorder.count / (double) durationSeconds,
+                    recorder.percentileMillis(50),
+                    recorder.percentileMillis(95),
+                    recorder.percentileMillis(99),
+                    recorder.percentileMillis(100),
+                    recorder.errors,
+                    peakThreads,
+                    peakHeapBytes / (1024 * 1024),
+                    clientPeakThreads,
+                    clientPeakHeapBytes / (1024 * 1024));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.EventFlow.benchmarks;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.EventFlow.backend.model.User;
+import com.EventFlow.backend.security.JwtUtil;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+// The backend under load, forked by LoadTest into its own JVM so its thread and heap peaks are not mixed with the
+// load clients'. Boots and seeds the backend, prints "READY <port> <token> <java feature version>", then answers
+// commands on stdin, one per line:
+//   reset -> clears the peak thread count and heap peaks, answers "OK"
+//   stats -> answers "STATS <peak threads> <peak heap bytes>" since the last reset
+//   stop (or end of input) -> shuts down
+public final class LoadTestServer {
+
+    static final String READY = "READY";
+    static final String STATS = "STATS";
+
+    private LoadTestServer() {
+    }
+
+    // args: events=<count> followed by extra Spring arguments (e.g. --spring.profiles.active=virtual-threads)
+    public static void main(String[] args) throws Exception {
+        int eventCount = Integer.parseInt(args[0].substring("events=".length()));
+        String[] springArgs = Arrays.copyOfRange(args, 1, args.length);
+
+        ConfigurableApplicationContext context = BenchmarkApplication.start(springArgs);
+        try {
+            BenchmarkData data = new BenchmarkData(context);
+            User owner = data.user("load@example.com");
+            data.mainEvents(owner, eventCount);
+
+            String token = context.getBean(JwtUtil.class).generateToken(owner.getId(), owner.getEmail());
+            String port = context.getEnvironment().getProperty("local.server.port");
+            reply(READY + " " + port + " " + token + " " + Runtime.version().feature());
+
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .toList();
+
+            BufferedReader commands = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            String command;
+            while ((command = commands.readLine()) != null && !command.equals("stop")) {
+                switch (command) {
+                    case "reset" -> {
+                        threads.resetPeakThreadCount();
+                        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+                        reply("OK");
+                    }
+                    case "stats" -> {
+                        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+                        reply(STATS + " " + threads.getPeakThreadCount() + " " + peakHeap);
+                    }
+                    default -> reply("ERROR unknown command " + command);
+                }
+            }
+        } finally {
+            context.close();
+        }
+        System.exit(0);
+    }
+
+    private static void reply(String line) {
+        System.out.println(line);
+        System.out.flush();
+    }
+}
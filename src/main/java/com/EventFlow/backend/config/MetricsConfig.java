@@ -0,0 +1,40 @@
+package com.EventFlow.backend.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.EventFlow.backend.metrics.RequestQueryCounter;
+import com.EventFlow.backend.security.AuthenticatedUserCache;
+import com.EventFlow.backend.service.ContactSuggestionService;
+import com.EventFlow.backend.service.EventAccessService;
+
+@Configuration
+public class MetricsConfig {
+
+    // Lets RequestQueryCounter see every SQL statement Hibernate prepares
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer(RequestQueryCounter queryCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCounter);
+    }
+
+    // Hit / miss / eviction metrics of the in-process caches
+    @Bean
+    public MeterBinder authenticatedUserCacheMetrics(AuthenticatedUserCache userCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, userCache.getNativeCache(), "authenticatedUsers");
+    }
+
+    @Bean
+    public MeterBinder contactSuggestionCacheMetrics(ContactSuggestionService suggestionService) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, suggestionService.getNativeCache(), "contactSuggestions");
+    }
+
+    @Bean
+    public MeterBinder eventAccessCacheMetrics(EventAccessService eventAccessService) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, eventAccessService.getNativeCache(), "eventAccess");
+    }
+}
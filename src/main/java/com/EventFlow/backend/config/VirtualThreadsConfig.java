@@ -0,0 +1,24 @@
+package com.EventFlow.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// spring.threads.virtual.enabled is silently ignored below Java 21, which would leave the
+// virtual-threads profile running on platform threads with a pool sized for virtual ones
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    public VirtualThreadsConfig() {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < 21) {
+            log.warn("virtual-threads profile is active but Java {} has no virtual threads; requests stay on the Tomcat worker pool", javaVersion);
+        } else {
+            log.info("Running request handling, @Async and @Scheduled work on virtual threads");
+        }
+    }
+}
@@ -13,6 +13,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:5173", "https://event-flow-six.vercel.app", "https://be-eventflow.onrender.com") 
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("X-Next-Cursor") // keyset pagination cursor
                 .allowCredentials(true);
     }
 }
@@ -0,0 +1,32 @@
+package com.EventFlow.backend.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.EventFlow.backend.service.ActivityStreamService;
+import com.EventFlow.backend.service.UserService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/activity")
+@Tag(name = "Activity", description = "Live updates on comments and invitations")
+public class ActivityController {
+
+    private final ActivityStreamService activityStreamService;
+    private final UserService userService;
+
+    public ActivityController(ActivityStreamService activityStreamService, UserService userService) {
+        this.activityStreamService = activityStreamService;
+        this.userService = userService;
+    }
+
+    @Operation(summary = "Stream live activity", description = "Server-Sent Events stream of new, edited and deleted comments on the events the user can access, "
+            + "and of invitation changes. Each event is named after its type (e.g. COMMENT_ADDED). The server closes the stream after a while; clients reconnect.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return activityStreamService.open(userService.getAuthenticatedUser().getId());
+    }
+}
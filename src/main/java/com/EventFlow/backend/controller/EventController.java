@@ -4,12 +4,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.EventFlow.backend.dto.CreateEventBatchDTO;
+import com.EventFlow.backend.dto.CursorPageDTO;
 import com.EventFlow.backend.dto.EventDTO;
+import com.EventFlow.backend.dto.EventOrderDTO;
+import com.EventFlow.backend.dto.EventRangeDTO;
+import com.EventFlow.backend.dto.EventSearchHitDTO;
+import com.EventFlow.backend.dto.EventTreeDTO;
 import com.EventFlow.backend.dto.AgendaItemDTO;
 import com.EventFlow.backend.dto.UpdateEventDTO;
 import com.EventFlow.backend.model.Event;
 import com.EventFlow.backend.service.EventService;
 
+import jakarta.validation.Valid;
+
 import java.util.List;
 import java.time.LocalDateTime;
 
@@ -23,6 +31,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 @Tag(name = "Events", description = "Manage user events and sub-events")
 public class EventController {
 
+    // Response header carrying the cursor of the next page (absent on the last page)
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final EventService eventService;
 
     @Autowired
@@ -48,6 +59,17 @@ public class EventController {
         return ResponseEntity.ok(event);
     }
 
+    @Operation(summary = "Create an event with its sub-events", description = "Creates a main event and all its sub-events in one transaction, "
+            + "e.g. when importing an agenda. Returns the created event tree.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Event and sub-events created"),
+        @ApiResponse(responseCode = "400", description = "Invalid input data")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<EventTreeDTO> createEventWithSubEvents(@Valid @RequestBody CreateEventBatchDTO batch) {
+        return ResponseEntity.ok(eventService.createEventWithSubEvents(batch));
+    }
+
     @Operation(summary = "Add a sub-event to a main event", description = "Adds a new sub-event under a main event")
     @PostMapping("/{mainEventId}/sub-events")
     public ResponseEntity<?> addAgendaItem(
@@ -77,11 +99,68 @@ public class EventController {
         return ResponseEntity.ok("Event updated successfully!");
     }
 
-    @Operation(summary = "Get current user's events", description = "Returns all main events created by the authenticated user, sorted by event order, and filtered by unfinished status.")
+    @Operation(summary = "Reorder main events", description = "Sets the order of the listed main events to their position in the list (starting at 1) in one transaction. "
+            + "A partial list reorders the listed events among the positions they occupy, unlisted events keep their place, "
+            + "and all main events are renumbered 1..n.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Order applied"),
+        @ApiResponse(responseCode = "400", description = "Duplicate ids, or an event that is not one of the user's main events")
+    })
+    @PutMapping("/order")
+    public ResponseEntity<?> reorderEvents(@Valid @RequestBody EventOrderDTO order) {
+        eventService.reorderEvents(order.getEventIds());
+        return ResponseEntity.ok("Events reordered successfully!");
+    }
+
+    @Operation(summary = "Reorder sub-events", description = "Sets the order of the listed sub-events of a main event to their position in the list (starting at 1) in one transaction. "
+            + "Partial lists follow the same rules as reordering main events.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Order applied"),
+        @ApiResponse(responseCode = "400", description = "Duplicate ids, main event not owned, or an id that is not a sub-event of it")
+    })
+    @PutMapping("/{eventId}/sub-events/order")
+    public ResponseEntity<?> reorderAgendaItems(@PathVariable Long eventId, @Valid @RequestBody EventOrderDTO order) {
+        eventService.reorderAgendaItems(eventId, order.getEventIds());
+        return ResponseEntity.ok("Sub-events reordered successfully!");
+    }
+
+    @Operation(summary = "Get current user's events", description = "Returns all main events created by the authenticated user, sorted by event order, and filtered by unfinished status. "
+            + "When limit is set, returns one page and the next page's cursor in the X-Next-Cursor header.")
     @GetMapping("/")
     public ResponseEntity<List<EventDTO>> getUserEvents(
-            @RequestParam(value = "filter", required = false) boolean filterUnfinished) { // Optional filter query param
-        return ResponseEntity.ok(eventService.getUserEvents(filterUnfinished));
+            @RequestParam(value = "filter", required = false) boolean filterUnfinished, // Optional filter query param
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit == null) {
+            return ResponseEntity.ok(eventService.getUserEvents(filterUnfinished));
+        }
+        return pageResponse(eventService.getUserEvents(filterUnfinished, cursor, limit));
+    }
+
+    @Operation(summary = "Get events in a time range", description = "Returns the user's main events, sub-events and accepted invited events "
+            + "overlapping [from, to), ordered by start date. The range may span at most 366 days.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Events in the range"),
+        @ApiResponse(responseCode = "400", description = "from is not before to, or the range is too long")
+    })
+    @GetMapping("/range")
+    public ResponseEntity<EventRangeDTO> getEventsInRange(@RequestParam LocalDateTime from, @RequestParam LocalDateTime to) {
+        return ResponseEntity.ok(eventService.getEventsInRange(from, to));
+    }
+
+    @Operation(summary = "Search events", description = "Full-text search over the description, location and type of the events "
+            + "the user owns or was invited to (and their sub-events), most relevant first. "
+            + "Supports quoted phrases, OR and -term. With comments=true, comment text matches too.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Matching events, best match first"),
+        @ApiResponse(responseCode = "400", description = "Empty or too long query, or limit out of range")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<EventSearchHitDTO>> searchEvents(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "false") boolean comments,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(eventService.searchEvents(q, comments, limit));
     }
 
     @Operation(summary = "Get a specific event", description = "Returns details of a specific event owned by the user")
@@ -91,10 +170,35 @@ public class EventController {
         return ResponseEntity.ok(eventDTO);
     }
 
-    @Operation(summary = "Get sub-events of an event", description = "Returns the sub-events associated with a main event")
+    @Operation(summary = "Get sub-events of an event", description = "Returns the sub-events associated with a main event. "
+            + "When limit is set, returns one page and the next page's cursor in the X-Next-Cursor header.")
     @GetMapping("/{eventId}/sub-events")
-    public ResponseEntity<List<AgendaItemDTO>> getAgendaItems(@PathVariable Long eventId) {
-        return ResponseEntity.ok(eventService.getAgendaItems(eventId));
+    public ResponseEntity<List<AgendaItemDTO>> getAgendaItems(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit == null) {
+            return ResponseEntity.ok(eventService.getAgendaItems(eventId));
+        }
+        return pageResponse(eventService.getAgendaItems(eventId, cursor, limit));
+    }
+
+    @Operation(summary = "Get an event with all its sub-events", description = "Returns a main event owned by the user together with its sub-events, ordered by sub order")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Main event and sub-events"),
+        @ApiResponse(responseCode = "400", description = "Event not found, not owned by the user or not a main event")
+    })
+    @GetMapping("/{eventId}/tree")
+    public ResponseEntity<EventTreeDTO> getEventTree(@PathVariable Long eventId) {
+        return ResponseEntity.ok(eventService.getEventTree(eventId));
+    }
+
+    private <T> ResponseEntity<List<T>> pageResponse(CursorPageDTO<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
 
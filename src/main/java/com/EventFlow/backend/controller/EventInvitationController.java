@@ -4,8 +4,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.EventFlow.backend.dto.BulkInviteDTO;
+import com.EventFlow.backend.dto.BulkInviteResultDTO;
+import com.EventFlow.backend.dto.CursorPageDTO;
+import com.EventFlow.backend.dto.EventCommentDTO;
 import com.EventFlow.backend.service.EventInvitationService;
 
+import jakarta.validation.Valid;
+
 import java.util.List;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -83,6 +89,17 @@ public class EventInvitationController {
         return ResponseEntity.ok("Event invitation sent  successfully!");
     }
 
+    @Operation(summary = "Send an event invitation to many friends at once",
+               description = "Contacts that are not friends or are already invited are skipped and listed in the response.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Invitations sent; the response lists invited and skipped contact ids"),
+        @ApiResponse(responseCode = "400", description = "Validation or permission error")
+    })
+    @PostMapping("/invite/bulk")
+    public ResponseEntity<BulkInviteResultDTO> inviteEventBulk(@RequestParam Long eventId, @Valid @RequestBody BulkInviteDTO request) {
+        return ResponseEntity.ok(invitationService.inviteEventBulk(eventId, request.getContactIds()));
+    }
+
     @Operation(summary = "Cancel an event invitation")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Event invitation cancelled successfully"),
@@ -97,20 +114,37 @@ public class EventInvitationController {
 
     @Operation(summary = "Add a comment to an event")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Comment added successfully"),
-        @ApiResponse(responseCode = "400", description = "User does not have permission to comment")
+        @ApiResponse(responseCode = "202", description = "Comment accepted, stored within a few milliseconds"),
+        @ApiResponse(responseCode = "400", description = "Empty or too long comment, or user does not have permission to comment"),
+        @ApiResponse(responseCode = "429", description = "Too many comments being written, retry after the Retry-After delay")
     })
     @PostMapping("/comment")
     public ResponseEntity<?> commentEvent(@RequestParam Long eventId, @RequestParam String text) {
         invitationService.addComment(eventId, text);
-        return ResponseEntity.ok("Comment added!");
+        return ResponseEntity.accepted().body("Comment accepted!");
     }
 
-    @Operation(summary = "Get all comments on an event")
+    @Operation(summary = "Get all comments on an event", description = "Returns the comments oldest first. "
+            + "When limit is set, returns one page (newest first with order=desc) and the next page's cursor in the X-Next-Cursor header.")
     @ApiResponse(responseCode = "200", description = "List of comments returned")
     @GetMapping("/comments/{eventId}")
-    public ResponseEntity<List<?>> getComments(@PathVariable Long eventId) {
-        return ResponseEntity.ok(invitationService.getComments(eventId));
+    public ResponseEntity<List<?>> getComments(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "asc") String order) {
+        if (limit == null) {
+            return ResponseEntity.ok(invitationService.getComments(eventId));
+        }
+        if (!order.equalsIgnoreCase("asc") && !order.equalsIgnoreCase("desc")) {
+            throw new RuntimeException("order must be asc or desc");
+        }
+        CursorPageDTO<EventCommentDTO> page = invitationService.getComments(eventId, cursor, limit, order.equalsIgnoreCase("desc"));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(EventController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
 
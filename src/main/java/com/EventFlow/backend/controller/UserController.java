@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 import com.EventFlow.backend.dto.LoginRequestDTO;
 import com.EventFlow.backend.dto.RegisterUserDTO;
 import com.EventFlow.backend.dto.UpdateUserDTO;
+import com.EventFlow.backend.service.ContactSuggestionService;
 import com.EventFlow.backend.service.UserService;
 
 import java.util.Collections;
@@ -22,10 +23,12 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 @RequestMapping("/users")
 public class UserController {
     private final UserService userService;
+    private final ContactSuggestionService contactSuggestionService;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ContactSuggestionService contactSuggestionService) {
         this.userService = userService;
+        this.contactSuggestionService = contactSuggestionService;
     }
     
     @Operation(summary = "Register a new user", description = "Creates a new user account with email and password validation.")
@@ -228,6 +231,36 @@ public class UserController {
         }
     }
 
+    @Operation(summary = "Get Mutual Contacts", description = "Retrieves the contacts the current user has in common with another user.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "List of mutual contacts retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid user")
+    })
+    @SecurityRequirement(name = "BearerAuth")
+    @GetMapping("/contacts/mutual/{userId}")
+    public ResponseEntity<?> getMutualContacts(@PathVariable Long userId) {
+        try {
+            return ResponseEntity.ok(contactSuggestionService.getMutualContacts(userId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @Operation(summary = "Get Contact Suggestions", description = "People you may know: friends of your contacts, ranked by the number of mutual contacts.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Ranked suggestions retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit")
+    })
+    @SecurityRequirement(name = "BearerAuth")
+    @GetMapping("/contacts/suggestions")
+    public ResponseEntity<?> getContactSuggestions(@RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(contactSuggestionService.getSuggestions(limit));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     
     @Operation(
     	    summary = "Remove Contact",
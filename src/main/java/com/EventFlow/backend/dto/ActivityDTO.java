@@ -0,0 +1,25 @@
+package com.EventFlow.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// One live update pushed on the activity stream. data is the EventCommentDTO for COMMENT_ADDED / COMMENT_UPDATED,
+// {"id"} for COMMENT_DELETED and {"ownerId", "contactId"} for invitation changes.
+@Getter
+@AllArgsConstructor
+public class ActivityDTO {
+
+    public enum Type {
+        COMMENT_ADDED,
+        COMMENT_UPDATED,
+        COMMENT_DELETED,
+        INVITATION_RECEIVED,
+        INVITATION_ACCEPTED,
+        INVITATION_DECLINED,
+        INVITATION_REVOKED
+    }
+
+    private Type type;
+    private Long eventId;
+    private Object data;
+}
@@ -22,7 +22,10 @@ public class AgendaItemDTO {
     private boolean isDone;
 
     public AgendaItemDTO(AgendaItem agendaitem) {
-        Event itemAgenda = agendaitem.getItemAgenda();
+        this(agendaitem.getItemAgenda());
+    }
+
+    public AgendaItemDTO(Event itemAgenda) {
         this.itemAgendaId = itemAgenda.getId();
         this.description = itemAgenda.getDescription();
         this.importanceLevel = itemAgenda.getImportanceLevel();
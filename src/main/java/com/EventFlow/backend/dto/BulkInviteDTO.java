@@ -0,0 +1,19 @@
+package com.EventFlow.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkInviteDTO {
+
+    public static final int MAX_CONTACTS = 1000;
+
+    @NotEmpty(message = "contactIds is required")
+    @Size(max = MAX_CONTACTS, message = "At most " + MAX_CONTACTS + " contacts can be invited at once")
+    private List<Long> contactIds;
+}
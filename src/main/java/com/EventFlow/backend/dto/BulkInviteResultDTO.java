@@ -0,0 +1,15 @@
+package com.EventFlow.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// Outcome of a bulk invite, per contact id: only `invited` got a new invitation
+@Getter
+@AllArgsConstructor
+public class BulkInviteResultDTO {
+    private List<Long> invited;
+    private List<Long> alreadyInvited;
+    private List<Long> notContacts;
+}
@@ -0,0 +1,21 @@
+package com.EventFlow.backend.dto;
+
+import com.EventFlow.backend.model.User;
+
+import lombok.Getter;
+
+// A "people you may know" entry: a friend of friends, ranked by the number of mutual contacts
+@Getter
+public class ContactSuggestionDTO {
+    private Long id;
+    private String email;
+    private String description;
+    private int mutualContacts;
+
+    public ContactSuggestionDTO(User user, int mutualContacts) {
+        this.id = user.getId();
+        this.email = user.getEmail();
+        this.description = user.getDescription();
+        this.mutualContacts = mutualContacts;
+    }
+}
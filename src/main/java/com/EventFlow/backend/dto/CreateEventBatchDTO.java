@@ -0,0 +1,25 @@
+package com.EventFlow.backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// A main event and its sub-events, created together by POST /events/batch
+@Getter
+@Setter
+public class CreateEventBatchDTO {
+
+    public static final int MAX_SUB_EVENTS = 1000;
+
+    @NotNull(message = "event is required")
+    @Valid
+    private CreateEventDTO event;
+
+    @Size(max = MAX_SUB_EVENTS, message = "At most " + MAX_SUB_EVENTS + " sub-events can be created at once")
+    private List<@NotNull @Valid CreateEventDTO> subEvents = new ArrayList<>();
+}
@@ -0,0 +1,33 @@
+package com.EventFlow.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Fields of a new event (main or sub), same as the createEvent / addAgendaItem request params
+@Getter
+@Setter
+public class CreateEventDTO {
+
+    @NotBlank(message = "description is required")
+    private String description;
+
+    private int importanceLevel;
+
+    @NotBlank(message = "location is required")
+    private String location;
+
+    @NotBlank(message = "type is required")
+    private String type;
+
+    @NotNull(message = "startDate is required")
+    private LocalDateTime startDate;
+
+    @NotNull(message = "dueDate is required")
+    private LocalDateTime dueDate;
+
+    private int order;
+}
@@ -0,0 +1,65 @@
+package com.EventFlow.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+// One page of a keyset-paginated listing ordered by (eventOrder, id) or (createdAt, id).
+// nextCursor is null on the last page; clients pass it back unchanged to get the next one.
+@Getter
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private String nextCursor;
+
+    public static final int MAX_LIMIT = 500;
+
+    public static String encodeCursor(int order, long id) {
+        String raw = order + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns {order, id}, or the position before the first row when no cursor is given
+    public static long[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return new long[] { Integer.MIN_VALUE, Long.MIN_VALUE };
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new long[] { Integer.parseInt(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)) };
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    public static String encodeCursor(LocalDateTime createdAt, long id) {
+        String raw = createdAt + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns the (createdAt, id) position encoded in a time-ordered cursor; the caller handles the no-cursor case
+    public static TimeCursor decodeTimeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(':');
+            return new TimeCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    public record TimeCursor(LocalDateTime createdAt, long id) {
+    }
+
+    public static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new RuntimeException("limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
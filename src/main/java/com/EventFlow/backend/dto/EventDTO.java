@@ -33,4 +33,19 @@ public class EventDTO {
         this.order = event.getEventOrder();
         this.hierarchy = (userEvent != null) ? userEvent.getHierarchy() : 0;
     }
+
+    // Used by JPQL constructor expressions, so queries can project rows straight into the DTO
+    public EventDTO(Long id, String description, int importanceLevel, String location, String type,
+                    LocalDateTime startDate, LocalDateTime dueDate, boolean isDone, int order, int hierarchy) {
+        this.id = id;
+        this.description = description;
+        this.importanceLevel = importanceLevel;
+        this.location = location;
+        this.type = type;
+        this.startDate = startDate;
+        this.dueDate = dueDate;
+        this.isDone = isDone;
+        this.order = order;
+        this.hierarchy = hierarchy;
+    }
 }
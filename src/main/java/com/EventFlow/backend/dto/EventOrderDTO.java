@@ -0,0 +1,20 @@
+package com.EventFlow.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// New order of a list of events: the event at index i gets eventOrder i + 1
+@Getter
+@Setter
+public class EventOrderDTO {
+
+    public static final int MAX_EVENTS = 1000;
+
+    @NotEmpty(message = "eventIds is required")
+    @Size(max = MAX_EVENTS, message = "At most " + MAX_EVENTS + " events can be reordered at once")
+    private List<Long> eventIds;
+}
@@ -0,0 +1,15 @@
+package com.EventFlow.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// Calendar view of a time window: the user's own main/sub events and the accepted invitations overlapping it,
+// each list ordered by start date
+@Getter
+@AllArgsConstructor
+public class EventRangeDTO {
+    private List<EventDTO> events;
+    private List<InvitedEventDTO> invitedEvents;
+}
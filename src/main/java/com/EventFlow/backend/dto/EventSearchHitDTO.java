@@ -0,0 +1,14 @@
+package com.EventFlow.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// One search result: the event (hierarchy 1 main / 2 sub event), whether the user owns it or sees it through an
+// invitation, and its relevance (higher first; 0 when the database has no full-text search)
+@Data
+@AllArgsConstructor
+public class EventSearchHitDTO {
+    private EventDTO event;
+    private boolean owned;
+    private double rank;
+}
@@ -0,0 +1,14 @@
+package com.EventFlow.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// A main event with its sub-events ordered by subOrder, as shown on the agenda screen
+@Getter
+@AllArgsConstructor
+public class EventTreeDTO {
+    private EventDTO event;
+    private List<AgendaItemDTO> subEvents;
+}
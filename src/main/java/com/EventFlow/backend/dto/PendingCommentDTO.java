@@ -0,0 +1,16 @@
+package com.EventFlow.backend.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// A validated comment waiting in CommentIngestQueue to be written
+@Data
+@AllArgsConstructor
+public class PendingCommentDTO {
+    private Long eventId;
+    private Long authorId;
+    private String authorEmail;
+    private String text;
+    private LocalDateTime createdAt;
+}
@@ -1,5 +1,6 @@
 package com.EventFlow.backend.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -7,6 +8,8 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.EventFlow.backend.metrics.QueryLimitExceededException;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,6 +29,18 @@ public class GlobalExceptionHandler {
     }
 
 
+    // Query guard in fail mode: surfaces as a server error so integration tests fail loudly
+    @ExceptionHandler(QueryLimitExceededException.class)
+    public ResponseEntity<String> handleQueryLimitExceeded(QueryLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ex.getMessage());
+    }
+
+    // Backpressure from a full write buffer: ask the client to retry shortly
+    @ExceptionHandler(IngestQueueFullException.class)
+    public ResponseEntity<String> handleIngestQueueFull(IngestQueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").body(ex.getMessage());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<String> handleRuntimeException(RuntimeException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
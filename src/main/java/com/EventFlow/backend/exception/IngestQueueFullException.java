@@ -0,0 +1,11 @@
+package com.EventFlow.backend.exception;
+
+// A write buffer is at capacity: the client should back off and retry (answered with 429)
+public class IngestQueueFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public IngestQueueFullException(String message) {
+        super(message);
+    }
+}
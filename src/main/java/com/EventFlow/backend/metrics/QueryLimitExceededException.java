@@ -0,0 +1,11 @@
+package com.EventFlow.backend.metrics;
+
+// Thrown when a request issues more SQL statements than eventflow.query-guard.threshold while eventflow.query-guard.fail=true
+public class QueryLimitExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public QueryLimitExceededException(int count, int threshold, String mostRepeated) {
+        super("Request exceeded the SQL statement limit (" + count + " > " + threshold + "), most repeated: " + mostRepeated);
+    }
+}
@@ -0,0 +1,79 @@
+package com.EventFlow.backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// Records how many SQL statements each request issued, tagged like http.server.requests (method + uri pattern)
+// and by the controller method that handled it. Requests above eventflow.query-guard.threshold are logged as likely N+1s.
+// Runs before the security chain so the authenticated user lookup is counted too.
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+    private final RequestQueryCounter queryCounter;
+    private final MeterRegistry meterRegistry;
+
+    public RequestMetricsFilter(RequestQueryCounter queryCounter, MeterRegistry meterRegistry) {
+        this.queryCounter = queryCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        queryCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestQueryCounter.RequestQueries queries = queryCounter.stop();
+            String handler = handlerTag(request);
+            DistributionSummary.builder("eventflow.http.server.queries")
+                    .description("SQL statements executed per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uriTag(request))
+                    .tag("handler", handler)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record(queries.getCount());
+
+            int threshold = queryCounter.getThreshold();
+            if (threshold > 0 && queries.getCount() > threshold) {
+                log.warn("{} {} ({}) issued {} SQL statements (threshold {}), most repeated: {}",
+                        request.getMethod(), request.getRequestURI(), handler, queries.getCount(), threshold, queries.mostRepeated());
+            }
+        }
+    }
+
+    // Controller method, e.g. EventController#getUserEvents
+    static String handlerTag(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        }
+        return "UNKNOWN";
+    }
+
+    // Route template (e.g. /events/{eventId}) to keep the tag cardinality bounded
+    static String uriTag(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
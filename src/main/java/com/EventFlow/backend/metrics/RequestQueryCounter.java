@@ -0,0 +1,96 @@
+package com.EventFlow.backend.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Hibernate StatementInspector counting the SQL statements issued by the current request thread.
+// Counting only happens between start() and stop(), which RequestMetricsFilter calls around each request.
+// With the query guard enabled it also counts repeats per statement (the N+1 signature) and,
+// in fail mode, aborts the request with QueryLimitExceededException once the threshold is crossed.
+@Component
+public class RequestQueryCounter implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<RequestQueries> CURRENT = new ThreadLocal<>();
+
+    private final int threshold;
+    private final boolean failOnThreshold;
+
+    public RequestQueryCounter(@Value("${eventflow.query-guard.threshold:0}") int threshold,
+                               @Value("${eventflow.query-guard.fail:false}") boolean failOnThreshold) {
+        this.threshold = threshold;
+        this.failOnThreshold = failOnThreshold;
+    }
+
+    public void start() {
+        CURRENT.set(new RequestQueries(threshold > 0));
+    }
+
+    public int current() {
+        RequestQueries queries = CURRENT.get();
+        return queries == null ? 0 : queries.count;
+    }
+
+    public RequestQueries stop() {
+        RequestQueries queries = CURRENT.get();
+        CURRENT.remove();
+        return queries != null ? queries : new RequestQueries(false);
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public boolean isFailOnThreshold() {
+        return failOnThreshold;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueries queries = CURRENT.get();
+        if (queries != null) {
+            queries.record(sql);
+            if (failOnThreshold && threshold > 0 && queries.count > threshold) {
+                throw new QueryLimitExceededException(queries.count, threshold, queries.mostRepeated());
+            }
+        }
+        return sql; // statement is never modified
+    }
+
+    // Statements seen by one request
+    public static class RequestQueries {
+        private int count;
+        private final Map<String, Integer> perStatement;
+
+        RequestQueries(boolean trackStatements) {
+            this.perStatement = trackStatements ? new HashMap<>() : null;
+        }
+
+        void record(String sql) {
+            count++;
+            if (perStatement != null) {
+                perStatement.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        // Statement executed the most times, e.g. "x41 select ... from users where id=?"
+        public String mostRepeated() {
+            if (perStatement == null || perStatement.isEmpty()) {
+                return "";
+            }
+            Map.Entry<String, Integer> top = perStatement.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .get();
+            return "x" + top.getValue() + " " + top.getKey();
+        }
+    }
+}
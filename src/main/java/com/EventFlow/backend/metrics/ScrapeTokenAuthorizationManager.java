@@ -0,0 +1,37 @@
+package com.EventFlow.backend.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+// Lets the Prometheus scraper in with a static bearer token (Prometheus' `authorization: credentials:`).
+// No token configured means nobody gets in: metrics are never public.
+public class ScrapeTokenAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final byte[] expectedHeader;
+
+    public ScrapeTokenAuthorizationManager(String scrapeToken) {
+        this.expectedHeader = scrapeToken == null || scrapeToken.isBlank()
+                ? null
+                : ("Bearer " + scrapeToken).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(matches(context.getRequest()));
+    }
+
+    boolean matches(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return expectedHeader != null && header != null
+                && MessageDigest.isEqual(expectedHeader, header.getBytes(StandardCharsets.UTF_8)); // constant time
+    }
+}
@@ -0,0 +1,28 @@
+package com.EventFlow.backend.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+// Times every token validation (signature check + claim parsing) of the wrapped decoder
+public class TimedJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Timer timer;
+
+    public TimedJwtDecoder(JwtDecoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timer = Timer.builder("eventflow.jwt.decode")
+                .description("Time spent validating and decoding bearer tokens")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        return timer.record(() -> delegate.decode(token));
+    }
+}
@@ -8,7 +8,9 @@ import lombok.*;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "event_AgendaItems")
+@Table(name = "event_AgendaItems", indexes = {
+    @Index(name = "idx_agenda_items_main_event", columnList = "main_event_id")
+})
 public class AgendaItem {
     
     @Id
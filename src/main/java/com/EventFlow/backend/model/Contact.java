@@ -10,7 +10,10 @@ import lombok.*;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "user_contacts")
+@Table(name = "user_contacts", uniqueConstraints = {
+        // One row per pair of users, whichever of them sent the request
+        @UniqueConstraint(name = "uk_user_contacts_pair", columnNames = {"user_low_id", "user_high_id"})
+})
 public class Contact {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,4 +29,20 @@ public class Contact {
 
     @Column(nullable = false)
     private boolean contactAccepted = false; // Initially false (pending invitation)
+
+    // 🔹 Normalized pair (smaller user id, larger user id), identical for A->B and B->A
+    @Column(name = "user_low_id")
+    private Long userLowId;
+
+    @Column(name = "user_high_id")
+    private Long userHighId;
+
+    @PrePersist
+    @PreUpdate
+    void normalizePair() {
+        long senderId = sender.getId();
+        long contactId = contact.getId();
+        userLowId = Math.min(senderId, contactId);
+        userHighId = Math.max(senderId, contactId);
+    }
 }
@@ -9,7 +9,10 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "events")
+@Table(name = "events", indexes = {
+    // Calendar range lookups (overlap of [startDate, dueDate] with a window)
+    @Index(name = "idx_events_start_due", columnList = "start_date, due_date")
+})
 public class Event {
 
     @Id
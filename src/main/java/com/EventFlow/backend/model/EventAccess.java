@@ -0,0 +1,16 @@
+package com.EventFlow.backend.model;
+
+// What a user is to an event: its owner (has a user_events row), a contact with an invitation in some status,
+// or nobody
+public enum EventAccess {
+    OWNER,
+    INVITED,
+    ACCEPTED,
+    DECLINED,
+    NONE;
+
+    // Owners and every invited contact can read and post comments
+    public boolean canComment() {
+        return this != NONE;
+    }
+}
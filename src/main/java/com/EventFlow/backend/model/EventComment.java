@@ -10,7 +10,10 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "event_comments")
+@Table(name = "event_comments", indexes = {
+    // Comment feed: keyset pages of one event ordered by (createdAt, id), in either direction
+    @Index(name = "idx_event_comments_event_created", columnList = "event_id, created_at, id")
+})
 public class EventComment {
 
     @Id
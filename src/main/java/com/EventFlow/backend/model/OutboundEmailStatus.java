@@ -0,0 +1,6 @@
+package com.EventFlow.backend.model;
+
+public enum OutboundEmailStatus {
+    PENDING,
+    FAILED
+}
@@ -8,7 +8,10 @@ import lombok.*;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "user_events")
+@Table(name = "user_events", indexes = {
+    @Index(name = "idx_user_events_user_hierarchy", columnList = "user_id, hierarchy"),
+    @Index(name = "idx_user_events_event_user", columnList = "event_id, user_id")
+})
 public class UserEvent {
     
     @Id
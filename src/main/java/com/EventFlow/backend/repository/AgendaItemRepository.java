@@ -1,6 +1,10 @@
 package com.EventFlow.backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.EventFlow.backend.model.Event;
 import com.EventFlow.backend.model.AgendaItem;
@@ -13,4 +17,26 @@ public interface AgendaItemRepository extends JpaRepository<AgendaItem, Long> {
     AgendaItem findByMainEventAndItemAgenda(Event mainEvent, Event itemAgenda);
     Optional<AgendaItem> findByItemAgenda(Event itemAgenda);
     List<AgendaItem> findByMainEventOrderByItemAgendaEventOrderAsc(Event mainEvent);
+
+    // 🔹 Keyset page of sub events after (afterOrder, afterId), sub event fetched in the same query
+    @Query("SELECT a FROM AgendaItem a JOIN FETCH a.itemAgenda e " +
+           "WHERE a.mainEvent = :mainEvent " +
+           "AND (e.eventOrder > :afterOrder OR (e.eventOrder = :afterOrder AND e.id > :afterId)) " +
+           "ORDER BY e.eventOrder ASC, e.id ASC")
+    List<AgendaItem> findPageByMainEvent(@Param("mainEvent") Event mainEvent,
+                                         @Param("afterOrder") int afterOrder,
+                                         @Param("afterId") long afterId,
+                                         Pageable pageable);
+
+    // 🔹 {subEventId, eventOrder} of all sub events of the main event, in display order
+    @Query("SELECT e.id, e.eventOrder FROM AgendaItem a JOIN a.itemAgenda e " +
+           "WHERE a.mainEvent.id = :mainEventId ORDER BY e.eventOrder ASC, e.id ASC")
+    List<Object[]> findSubEventOrders(@Param("mainEventId") Long mainEventId);
+
+    @Query("SELECT a.itemAgenda.id FROM AgendaItem a WHERE a.mainEvent.id = :mainEventId")
+    List<Long> findItemAgendaIdsByMainEventId(@Param("mainEventId") Long mainEventId);
+
+    @Modifying
+    @Query("DELETE FROM AgendaItem a WHERE a.mainEvent.id = :mainEventId")
+    int deleteByMainEventId(@Param("mainEventId") Long mainEventId);
 }
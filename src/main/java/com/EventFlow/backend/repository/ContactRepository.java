@@ -1,8 +1,10 @@
 package com.EventFlow.backend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,8 +15,48 @@ public interface ContactRepository extends JpaRepository<Contact, Long> {
     List<Contact> findBySenderAndContactAcceptedFalse(User user); // 🔹 Get pending invitations
     List<Contact> findBySenderAndContactAcceptedTrue(User user);  // 🔹 Get accepted contacts
     Optional<Contact> findBySenderAndContact(User user, User contact); // 🔹 Find specific contact entry
+
+    @Query("SELECT c FROM Contact c WHERE c.userLowId = :lowId AND c.userHighId = :highId")
+    Optional<Contact> findByPair(@Param("lowId") Long lowId, @Param("highId") Long highId);
+
+    // 🔹 The contact entry between two users in either direction (pending or accepted), via the pair index
+    default Optional<Contact> findBetween(Long userId, Long otherUserId) {
+        return findByPair(Math.min(userId, otherUserId), Math.max(userId, otherUserId));
+    }
     List<Contact> findByContactAndContactAcceptedFalse(User contact);
 
+    // 🔹 Which of the given users are accepted contacts of the user: one query over the pair index
+    @Query("SELECT CASE WHEN c.userLowId = :userId THEN c.userHighId ELSE c.userLowId END FROM Contact c " +
+           "WHERE c.contactAccepted = true AND ((c.userLowId = :userId AND c.userHighId IN :otherIds) " +
+           "OR (c.userHighId = :userId AND c.userLowId IN :otherIds))")
+    List<Long> findAcceptedContactIdsAmong(@Param("userId") Long userId, @Param("otherIds") Collection<Long> otherIds);
+
     @Query("SELECT c FROM Contact c WHERE (c.sender = :user OR c.contact = :user) AND c.contactAccepted = true")
     List<Contact> findAcceptedContacts(@Param("user") User user);
+
+    // 🔹 (sender id, contact id) of every accepted contact, used to build ContactGraph
+    @Query("SELECT c.sender.id, c.contact.id FROM Contact c WHERE c.contactAccepted = true")
+    List<Object[]> findAcceptedPairs();
+
+    // 🔹 Users with a pending friend request to or from the user
+    @Query("SELECT CASE WHEN c.sender.id = :userId THEN c.contact.id ELSE c.sender.id END FROM Contact c " +
+           "WHERE c.contactAccepted = false AND (c.sender.id = :userId OR c.contact.id = :userId)")
+    List<Long> findPendingContactIds(@Param("userId") Long userId);
+
+    // 🔹 Rows created before the pair columns existed: drop reverse/same-direction duplicates, then fill in the pair
+    // so the unique constraint and findBetween cover them. An accepted row wins over a pending one, whichever is
+    // older, so an existing friendship is never replaced by a stale request; otherwise the oldest row wins.
+    @Modifying
+    @Query("DELETE FROM Contact c WHERE c.userLowId IS NULL AND EXISTS (SELECT o.id FROM Contact o WHERE o.id <> c.id " +
+           "AND ((o.sender = c.sender AND o.contact = c.contact) OR (o.sender = c.contact AND o.contact = c.sender)) " +
+           "AND ((o.contactAccepted = true AND c.contactAccepted = false) " +
+           "OR (o.contactAccepted = c.contactAccepted AND o.id < c.id)))")
+    int deleteUnpairedDuplicates();
+
+    @Modifying
+    @Query("UPDATE Contact c SET " +
+           "c.userLowId = CASE WHEN c.sender.id < c.contact.id THEN c.sender.id ELSE c.contact.id END, " +
+           "c.userHighId = CASE WHEN c.sender.id < c.contact.id THEN c.contact.id ELSE c.sender.id END " +
+           "WHERE c.userLowId IS NULL")
+    int backfillPairs();
 }
@@ -1,15 +1,53 @@
 package com.EventFlow.backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import com.EventFlow.backend.model.Event;
+import com.EventFlow.backend.dto.EventCommentDTO;
 import com.EventFlow.backend.model.EventComment;
 import com.EventFlow.backend.model.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface EventCommentRepository extends JpaRepository<EventComment, Long> {
-    List<EventComment> findByEventOrderByCreatedAtAsc(Event event);
+public interface EventCommentRepository extends JpaRepository<EventComment, Long>, EventCommentRepositoryCustom {
     Optional<EventComment> findByIdAndAuthor(Long id, User author);
+
+    // 🔹 Whole thread projected into EventCommentDTO with the author email, oldest first
+    @Query("SELECT new com.EventFlow.backend.dto.EventCommentDTO(c.id, a.email, c.createdAt, c.content) " +
+           "FROM EventComment c JOIN c.author a " +
+           "WHERE c.event.id = :eventId " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<EventCommentDTO> findCommentDTOsByEventId(@Param("eventId") Long eventId);
+
+    // 🔹 Keyset page, oldest first: rows strictly after (afterCreatedAt, afterId), size taken from pageable
+    @Query("SELECT new com.EventFlow.backend.dto.EventCommentDTO(c.id, a.email, c.createdAt, c.content) " +
+           "FROM EventComment c JOIN c.author a " +
+           "WHERE c.event.id = :eventId " +
+           "AND (c.createdAt > :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id > :afterId)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<EventCommentDTO> findCommentPageAsc(@Param("eventId") Long eventId,
+                                             @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                             @Param("afterId") long afterId,
+                                             Pageable pageable);
+
+    // 🔹 Keyset page, newest first: rows strictly before (beforeCreatedAt, beforeId)
+    @Query("SELECT new com.EventFlow.backend.dto.EventCommentDTO(c.id, a.email, c.createdAt, c.content) " +
+           "FROM EventComment c JOIN c.author a " +
+           "WHERE c.event.id = :eventId " +
+           "AND (c.createdAt < :beforeCreatedAt OR (c.createdAt = :beforeCreatedAt AND c.id < :beforeId)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<EventCommentDTO> findCommentPageDesc(@Param("eventId") Long eventId,
+                                              @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                              @Param("beforeId") long beforeId,
+                                              Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EventComment c WHERE c.event.id IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.EventFlow.backend.repository;
+
+import com.EventFlow.backend.dto.PendingCommentDTO;
+
+import java.util.List;
+
+public interface EventCommentRepositoryCustom {
+
+    // Inserts the comments as one JDBC batch and returns their generated ids, in the same order
+    List<Long> insertComments(List<PendingCommentDTO> comments);
+}
@@ -0,0 +1,56 @@
+package com.EventFlow.backend.repository;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import com.EventFlow.backend.dto.PendingCommentDTO;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// JDBC batch insert for comments: EventComment uses IDENTITY ids, which makes Hibernate insert rows one
+// statement at a time. With reWriteBatchedInserts the driver sends the batch as multi-row INSERTs.
+public class EventCommentRepositoryImpl implements EventCommentRepositoryCustom {
+
+    private static final String INSERT_COMMENT =
+            "INSERT INTO event_comments (event_id, author_id, content, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventCommentRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> insertComments(List<PendingCommentDTO> comments) {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_COMMENT, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingCommentDTO comment = comments.get(i);
+                        ps.setLong(1, comment.getEventId());
+                        ps.setLong(2, comment.getAuthorId());
+                        ps.setString(3, comment.getText());
+                        ps.setTimestamp(4, Timestamp.valueOf(comment.getCreatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return comments.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(comments.size());
+        for (Map<String, Object> key : keyHolder.getKeyList()) {
+            ids.add(((Number) key.get("id")).longValue());
+        }
+        return ids;
+    }
+}
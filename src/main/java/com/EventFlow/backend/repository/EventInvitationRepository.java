@@ -1,19 +1,47 @@
 package com.EventFlow.backend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.EventFlow.backend.model.Event;
+import com.EventFlow.backend.model.InvitationStatus;
 import com.EventFlow.backend.model.InvitedEvent;
 import com.EventFlow.backend.model.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface EventInvitationRepository extends JpaRepository<InvitedEvent, Long> {
+public interface EventInvitationRepository extends JpaRepository<InvitedEvent, Long>, EventInvitationRepositoryCustom {
     List<InvitedEvent> findByContact(User contact);
     Optional<InvitedEvent> findByEventAndContact(Event event, User contact);
     Optional<InvitedEvent> findByEventAndOwnerAndContact(Event event, User owner, User contact);
     List<InvitedEvent> findByEvent(Event event);
     List<InvitedEvent> findByOwnerAndContact(User owner, User contact);
     List<InvitedEvent> findByEventAndOwner(Event event, User owner);
+    boolean existsByEventIdAndContact(Long eventId, User contact);
+
+    // 🔹 Invitations with their event and owner loaded in the same query
+    @Query("SELECT ie FROM InvitedEvent ie JOIN FETCH ie.event JOIN FETCH ie.owner " +
+           "WHERE ie.contact = :contact AND ie.status = :status")
+    List<InvitedEvent> findWithEventAndOwnerByContactAndStatus(@Param("contact") User contact,
+                                                               @Param("status") InvitationStatus status);
+
+    @Query("SELECT ie FROM InvitedEvent ie JOIN FETCH ie.event JOIN FETCH ie.owner " +
+           "WHERE ie.owner = :owner AND ie.contact = :contact")
+    List<InvitedEvent> findWithEventAndOwnerByOwnerAndContact(@Param("owner") User owner,
+                                                              @Param("contact") User contact);
+
+    @Query("SELECT ie.contact.id FROM InvitedEvent ie WHERE ie.event.id = :eventId")
+    List<Long> findContactIdsByEventId(@Param("eventId") Long eventId);
+
+    // 🔹 Which of these contacts already have an invitation to the event (by anyone)
+    @Query("SELECT ie.contact.id FROM InvitedEvent ie WHERE ie.event.id = :eventId AND ie.contact.id IN :contactIds")
+    List<Long> findInvitedContactIds(@Param("eventId") Long eventId, @Param("contactIds") Collection<Long> contactIds);
+
+    @Modifying
+    @Query("DELETE FROM InvitedEvent ie WHERE ie.event.id IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.EventFlow.backend.repository;
+
+import java.util.Collection;
+
+public interface EventInvitationRepositoryCustom {
+
+    // Inserts one INVITED row per contact as a single JDBC batch
+    void insertInvitations(Long eventId, Long ownerId, Collection<Long> contactIds);
+}
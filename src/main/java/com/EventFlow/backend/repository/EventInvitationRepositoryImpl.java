@@ -0,0 +1,31 @@
+package com.EventFlow.backend.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.EventFlow.backend.model.InvitationStatus;
+
+import java.util.Collection;
+
+// JDBC batch insert for invitations: InvitedEvent uses IDENTITY ids, which makes Hibernate
+// insert rows one statement at a time. Runs on the connection of the surrounding JPA transaction.
+public class EventInvitationRepositoryImpl implements EventInvitationRepositoryCustom {
+
+    private static final String INSERT_INVITATION =
+            "INSERT INTO invited_events (event_id, owner_id, contact_id, status) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventInvitationRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertInvitations(Long eventId, Long ownerId, Collection<Long> contactIds) {
+        jdbcTemplate.batchUpdate(INSERT_INVITATION, contactIds, contactIds.size(), (ps, contactId) -> {
+            ps.setLong(1, eventId);
+            ps.setLong(2, ownerId);
+            ps.setLong(3, contactId);
+            ps.setString(4, InvitationStatus.INVITED.name());
+        });
+    }
+}
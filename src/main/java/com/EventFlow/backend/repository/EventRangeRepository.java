@@ -0,0 +1,22 @@
+package com.EventFlow.backend.repository;
+
+import com.EventFlow.backend.dto.EventDTO;
+import com.EventFlow.backend.dto.InvitedEventDTO;
+import com.EventFlow.backend.model.InvitationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventRangeRepository {
+
+    // Whether the period index of db/event-range.sql is in place. Checked once, so running the migration takes
+    // effect on the next start.
+    boolean hasRangeIndex();
+
+    // User's main and sub events overlapping [from, to), ordered by start date
+    List<EventDTO> findEventDTOsByUserInRange(Long userId, LocalDateTime from, LocalDateTime to);
+
+    // Invitations of the contact with the given status whose (main) event overlaps [from, to), ordered by start date
+    List<InvitedEventDTO> findInvitedEventDTOsByContactAndStatusInRange(Long contactId, InvitationStatus status,
+                                                                        LocalDateTime from, LocalDateTime to);
+}
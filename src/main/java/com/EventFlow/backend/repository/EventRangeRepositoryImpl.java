@@ -0,0 +1,108 @@
+package com.EventFlow.backend.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.EventFlow.backend.dto.EventDTO;
+import com.EventFlow.backend.dto.InvitedEventDTO;
+import com.EventFlow.backend.model.InvitationStatus;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Calendar range queries: events overlapping [from, to), i.e. start_date < to AND due_date > from. A btree on
+// (start_date, due_date) can only seek on the first half, so it reads every event starting before the window end and
+// gets slower the later the window lies. On PostgreSQL, once db/event-range.sql has been run, candidates come from
+// a GiST index over the event's period instead, which only visits events near the window whatever their length;
+// the exact predicates are still applied on top. Otherwise (H2 in benchmarks, or before the migration)
+// idx_events_start_due.
+public class EventRangeRepositoryImpl implements EventRangeRepository {
+
+    // Same expression as idx_events_period in db/event-range.sql
+    private static final String PERIOD = "tsrange(LEAST(e.start_date, e.due_date), GREATEST(e.start_date, e.due_date), '[]')";
+
+    private static final String RANGE_INDEX_EXISTS =
+            "SELECT COUNT(*) FROM pg_indexes WHERE schemaname = current_schema() AND indexname = 'idx_events_period'";
+
+    private static final String EVENT_COLUMNS =
+            "e.id, e.description, e.importance_level, e.location, e.type, e.start_date, e.due_date, e.is_done, e.event_order";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean rangeIndex;
+
+    public EventRangeRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean hasRangeIndex() {
+        if (rangeIndex == null) {
+            rangeIndex = isPostgres() && jdbcTemplate.queryForObject(RANGE_INDEX_EXISTS, Integer.class) > 0;
+        }
+        return rangeIndex;
+    }
+
+    // 🔹 Candidate events come from the range index and are joined to user_events via idx_user_events_event_user
+    @Override
+    public List<EventDTO> findEventDTOsByUserInRange(Long userId, LocalDateTime from, LocalDateTime to) {
+        String sql = "SELECT " + EVENT_COLUMNS + ", ue.hierarchy FROM events e " +
+                     "JOIN user_events ue ON ue.event_id = e.id AND ue.user_id = ? " +
+                     "WHERE " + overlaps() + " ORDER BY e.start_date, e.id";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> toEventDTO(rs, rs.getInt("hierarchy")),
+                rangeArgs(List.of(userId), from, to));
+    }
+
+    // 🔹 Invitations always point at a main event (hierarchy 1); event and owner come in the same query
+    @Override
+    public List<InvitedEventDTO> findInvitedEventDTOsByContactAndStatusInRange(Long contactId, InvitationStatus status,
+                                                                               LocalDateTime from, LocalDateTime to) {
+        String sql = "SELECT " + EVENT_COLUMNS + ", u.id AS owner_id, u.email AS owner_email FROM events e " +
+                     "JOIN invited_events ie ON ie.event_id = e.id AND ie.contact_id = ? AND ie.status = ? " +
+                     "JOIN users u ON u.id = ie.owner_id " +
+                     "WHERE " + overlaps() + " ORDER BY e.start_date, e.id";
+        RowMapper<InvitedEventDTO> mapper = (rs, rowNum) ->
+                new InvitedEventDTO(toEventDTO(rs, 1), rs.getString("owner_email"), rs.getLong("owner_id"), status);
+        return jdbcTemplate.query(sql, mapper, rangeArgs(List.of(contactId, status.name()), from, to));
+    }
+
+    private String overlaps() {
+        String exact = "e.start_date < ? AND e.due_date > ?";
+        return hasRangeIndex() ? PERIOD + " && tsrange(CAST(? AS timestamp), CAST(? AS timestamp)) AND " + exact : exact;
+    }
+
+    // The join arguments followed by those of overlaps()
+    private Object[] rangeArgs(List<Object> joinArgs, LocalDateTime from, LocalDateTime to) {
+        List<Object> args = new ArrayList<>(joinArgs);
+        if (hasRangeIndex()) {
+            args.add(Timestamp.valueOf(from));
+            args.add(Timestamp.valueOf(to));
+        }
+        args.add(Timestamp.valueOf(to));
+        args.add(Timestamp.valueOf(from));
+        return args.toArray();
+    }
+
+    private static EventDTO toEventDTO(ResultSet rs, int hierarchy) throws SQLException {
+        return new EventDTO(
+                rs.getLong("id"),
+                rs.getString("description"),
+                rs.getInt("importance_level"),
+                rs.getString("location"),
+                rs.getString("type"),
+                rs.getTimestamp("start_date").toLocalDateTime(),
+                rs.getTimestamp("due_date").toLocalDateTime(),
+                rs.getBoolean("is_done"),
+                rs.getInt("event_order"),
+                hierarchy);
+    }
+
+    private boolean isPostgres() {
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) con ->
+                "PostgreSQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName()));
+    }
+}
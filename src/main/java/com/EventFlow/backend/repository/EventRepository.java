@@ -1,14 +1,35 @@
 package com.EventFlow.backend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.EventFlow.backend.model.Event;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom, EventSearchRepository, EventRangeRepository {
 	
 //    List<Event> findByHierarchy(int hierarchy);
 //    Optional<Event> findByIdAndHierarchy(long id, int hierarchy);
+
+    // 🔹 Access of a user to an event in one query: {user_events rows of the user, user's invitation status or null}.
+    // No row when the event does not exist. Both lookups are served by the (event_id, user/contact id) indexes.
+    @Query("SELECT (SELECT COUNT(ue.id) FROM UserEvent ue WHERE ue.event.id = e.id AND ue.user.id = :userId), " +
+           "(SELECT ie.status FROM InvitedEvent ie WHERE ie.event.id = e.id AND ie.contact.id = :userId) " +
+           "FROM Event e WHERE e.id = :eventId")
+    List<Object[]> findAccessRow(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    // 🔹 Sets isDone only if the user has the event: ownership check and write in one statement, returns rows updated
+    @Modifying
+    @Query("UPDATE Event e SET e.isDone = :isDone WHERE e.id = :eventId " +
+           "AND EXISTS (SELECT ue.id FROM UserEvent ue WHERE ue.event.id = :eventId AND ue.user.id = :userId)")
+    int updateDoneIfOwned(@Param("eventId") Long eventId, @Param("userId") Long userId, @Param("isDone") boolean isDone);
+
+    @Modifying
+    @Query("DELETE FROM Event e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,21 @@
+package com.EventFlow.backend.repository;
+
+import com.EventFlow.backend.dto.UpdateEventDTO;
+import com.EventFlow.backend.model.Event;
+
+import java.util.List;
+import java.util.Map;
+
+public interface EventRepositoryCustom {
+
+    // Sets eventOrder for every event id in the map with a single UPDATE statement
+    int updateEventOrders(Map<Long, Integer> ordersById);
+
+    // Writes only the non-null fields of the DTO, and only if the user has the event (checked by the same UPDATE).
+    // Returns the number of rows updated; 0 when no field is set.
+    int updateFieldsIfOwned(Long eventId, Long userId, UpdateEventDTO changes);
+
+    // Inserts a main event, its sub events, their agenda links and the user's user_events rows as JDBC batches
+    // (one per table). The generated ids are set on the given events.
+    void insertEventTree(Long userId, Event mainEvent, List<Event> subEvents);
+}
@@ -0,0 +1,135 @@
+package com.EventFlow.backend.repository;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import com.EventFlow.backend.dto.UpdateEventDTO;
+import com.EventFlow.backend.model.Event;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// JDBC statements for bulk event writes. Event, AgendaItem and UserEvent use IDENTITY ids, which makes Hibernate
+// insert rows one statement at a time, and reordering through the entities costs one load + save per event.
+// Runs on the connection of the surrounding JPA transaction.
+public class EventRepositoryImpl implements EventRepositoryCustom {
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO events (description, importance_level, location, type, start_date, due_date, is_done, event_order) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_AGENDA_ITEM =
+            "INSERT INTO event_agenda_items (main_event_id, sub_event_id) VALUES (?, ?)";
+    private static final String INSERT_USER_EVENT =
+            "INSERT INTO user_events (user_id, event_id, hierarchy) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int updateEventOrders(Map<Long, Integer> ordersById) {
+        if (ordersById.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("UPDATE events SET event_order = CASE id");
+        List<Object> args = new ArrayList<>(ordersById.size() * 3);
+        ordersById.forEach((id, order) -> {
+            sql.append(" WHEN ? THEN ?");
+            args.add(id);
+            args.add(order);
+        });
+        sql.append(" END WHERE id IN (").append(String.join(", ", Collections.nCopies(ordersById.size(), "?"))).append(')');
+        args.addAll(ordersById.keySet());
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    @Override
+    public int updateFieldsIfOwned(Long eventId, Long userId, UpdateEventDTO changes) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        putIfSet(columns, "description", changes.getDescription());
+        putIfSet(columns, "importance_level", changes.getImportanceLevel());
+        putIfSet(columns, "location", changes.getLocation());
+        putIfSet(columns, "type", changes.getType());
+        putIfSet(columns, "start_date", changes.getStartDate() != null ? Timestamp.valueOf(changes.getStartDate()) : null);
+        putIfSet(columns, "due_date", changes.getDueDate() != null ? Timestamp.valueOf(changes.getDueDate()) : null);
+        putIfSet(columns, "is_done", changes.getIsDone());
+        putIfSet(columns, "event_order", changes.getEventOrder());
+        if (columns.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "UPDATE events SET " + String.join(" = ?, ", columns.keySet()) + " = ? " +
+                     "WHERE id = ? AND EXISTS (SELECT 1 FROM user_events ue WHERE ue.event_id = ? AND ue.user_id = ?)";
+        List<Object> args = new ArrayList<>(columns.values());
+        args.add(eventId);
+        args.add(eventId);
+        args.add(userId);
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    private static void putIfSet(Map<String, Object> columns, String column, Object value) {
+        if (value != null) {
+            columns.put(column, value);
+        }
+    }
+
+    @Override
+    public void insertEventTree(Long userId, Event mainEvent, List<Event> subEvents) {
+        List<Event> events = new ArrayList<>(subEvents.size() + 1);
+        events.add(mainEvent);
+        events.addAll(subEvents);
+        insertEvents(events);
+
+        if (!subEvents.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_AGENDA_ITEM, subEvents, subEvents.size(), (ps, subEvent) -> {
+                ps.setLong(1, mainEvent.getId());
+                ps.setLong(2, subEvent.getId());
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER_EVENT, events, events.size(), (ps, event) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, event.getId());
+            ps.setInt(3, event == mainEvent ? 1 : 2); // Hierarchy 1 (Main Event) / 2 (sub-event)
+        });
+    }
+
+    // 🔹 Keys of a batch come back in insertion order
+    private void insertEvents(List<Event> events) {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_EVENT, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Event event = events.get(i);
+                        ps.setString(1, event.getDescription());
+                        ps.setInt(2, event.getImportanceLevel());
+                        ps.setString(3, event.getLocation());
+                        ps.setString(4, event.getType());
+                        ps.setTimestamp(5, Timestamp.valueOf(event.getStartDate()));
+                        ps.setTimestamp(6, Timestamp.valueOf(event.getDueDate()));
+                        ps.setBoolean(7, event.isDone());
+                        ps.setInt(8, event.getEventOrder());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return events.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < events.size(); i++) {
+            events.get(i).setId(((Number) keys.get(i).get("id")).longValue());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.EventFlow.backend.repository;
+
+import com.EventFlow.backend.dto.EventSearchHitDTO;
+
+import java.util.List;
+
+public interface EventSearchRepository {
+
+    // Whether the full-text column and indexes of db/event-search.sql are in place. Checked once, so running the
+    // migration takes effect on the next start.
+    boolean hasSearchIndex();
+
+    // Events the user owns or was invited to (with the sub events of those invitations) matching the query,
+    // most relevant first. Optionally also matches the events' comments.
+    List<EventSearchHitDTO> searchEvents(Long userId, String query, boolean includeComments, int limit);
+}
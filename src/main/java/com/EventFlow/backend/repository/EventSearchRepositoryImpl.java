@@ -0,0 +1,139 @@
+package com.EventFlow.backend.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.EventFlow.backend.dto.EventDTO;
+import com.EventFlow.backend.dto.EventSearchHitDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Event search. On PostgreSQL, once db/event-search.sql has been run: a stored tsvector column generated from
+// description (weight A), type and location (weight B), plus an expression index over comment text, both GIN indexed
+// and kept current by the database itself on every insert / update, whatever the write path (JPA or JDBC batches).
+// Otherwise (H2 in benchmarks, or before the migration) a case-insensitive substring match of every query term,
+// unranked.
+public class EventSearchRepositoryImpl implements EventSearchRepository {
+
+    // Fixed in the generated column and the comment index of db/event-search.sql
+    private static final String TEXT_CONFIG = "'english'";
+    private static final String COMMENT_VECTOR = "to_tsvector(" + TEXT_CONFIG + ", c.content)";
+    private static final String TS_QUERY = "websearch_to_tsquery(" + TEXT_CONFIG + ", ?)";
+    // A match in the event itself outranks the same match in one of its comments
+    private static final double COMMENT_WEIGHT = 0.5;
+
+    private static final String SEARCH_INDEX_EXISTS =
+            "SELECT COUNT(*) FROM information_schema.columns " +
+            "WHERE table_schema = current_schema() AND table_name = 'events' AND column_name = 'search_vector'";
+
+    // Events the user may search, with their hierarchy for the user: own user_events rows, invited main events
+    // and the sub events of those
+    private static final String VISIBLE_EVENTS =
+            "visible AS (" +
+            "SELECT ue.event_id, ue.hierarchy, TRUE AS owned FROM user_events ue WHERE ue.user_id = ? " +
+            "UNION ALL " +
+            "SELECT ie.event_id, 1, FALSE FROM invited_events ie WHERE ie.contact_id = ? " +
+            "UNION ALL " +
+            "SELECT a.sub_event_id, 2, FALSE FROM invited_events ie " +
+            "JOIN event_agenda_items a ON a.main_event_id = ie.event_id WHERE ie.contact_id = ?)";
+
+    private static final String EVENT_COLUMNS =
+            "e.id, e.description, e.importance_level, e.location, e.type, e.start_date, e.due_date, e.is_done, " +
+            "e.event_order, v.hierarchy, v.owned";
+
+    private static final RowMapper<EventSearchHitDTO> HIT_MAPPER = (rs, rowNum) -> new EventSearchHitDTO(
+            new EventDTO(
+                    rs.getLong("id"),
+                    rs.getString("description"),
+                    rs.getInt("importance_level"),
+                    rs.getString("location"),
+                    rs.getString("type"),
+                    rs.getTimestamp("start_date").toLocalDateTime(),
+                    rs.getTimestamp("due_date").toLocalDateTime(),
+                    rs.getBoolean("is_done"),
+                    rs.getInt("event_order"),
+                    rs.getInt("hierarchy")),
+            rs.getBoolean("owned"),
+            rs.getDouble("rank"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean searchIndex;
+
+    public EventSearchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean hasSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = isPostgres() && jdbcTemplate.queryForObject(SEARCH_INDEX_EXISTS, Integer.class) > 0;
+        }
+        return searchIndex;
+    }
+
+    @Override
+    public List<EventSearchHitDTO> searchEvents(Long userId, String query, boolean includeComments, int limit) {
+        return hasSearchIndex()
+                ? fullTextSearch(userId, query, includeComments, limit)
+                : substringSearch(userId, query, includeComments, limit);
+    }
+
+    // 🔹 Candidates come from the GIN indexes (event text, then comments), restricted to visible events, and are
+    // ranked by their best match
+    private List<EventSearchHitDTO> fullTextSearch(Long userId, String query, boolean includeComments, int limit) {
+        List<Object> args = new ArrayList<>(List.of(userId, userId, userId, query, query));
+        StringBuilder sql = new StringBuilder("WITH ").append(VISIBLE_EVENTS).append(", hits AS (")
+                .append("SELECT e.id AS event_id, ts_rank(e.search_vector, ").append(TS_QUERY).append(") AS rank ")
+                .append("FROM events e WHERE e.search_vector @@ ").append(TS_QUERY)
+                .append(" AND e.id IN (SELECT event_id FROM visible)");
+        if (includeComments) {
+            sql.append(" UNION ALL SELECT c.event_id, ").append(COMMENT_WEIGHT).append(" * ts_rank(").append(COMMENT_VECTOR)
+                    .append(", ").append(TS_QUERY).append(") FROM event_comments c WHERE ").append(COMMENT_VECTOR)
+                    .append(" @@ ").append(TS_QUERY).append(" AND c.event_id IN (SELECT event_id FROM visible)");
+            args.add(query);
+            args.add(query);
+        }
+        sql.append(") SELECT ").append(EVENT_COLUMNS).append(", best.rank ")
+                .append("FROM (SELECT event_id, MAX(rank) AS rank FROM hits GROUP BY event_id) best ")
+                .append("JOIN events e ON e.id = best.event_id JOIN visible v ON v.event_id = e.id ")
+                .append("ORDER BY best.rank DESC, e.id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), HIT_MAPPER, args.toArray());
+    }
+
+    // Every term must appear in description, location or type (or a comment), earliest events first
+    private List<EventSearchHitDTO> substringSearch(Long userId, String query, boolean includeComments, int limit) {
+        List<Object> args = new ArrayList<>(List.of(userId, userId, userId));
+        StringBuilder sql = new StringBuilder("WITH ").append(VISIBLE_EVENTS)
+                .append(" SELECT ").append(EVENT_COLUMNS).append(", 0 AS rank ")
+                .append("FROM events e JOIN visible v ON v.event_id = e.id WHERE 1 = 1");
+        for (String term : query.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            String pattern = "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+            sql.append(" AND (LOWER(e.description) LIKE ? ESCAPE '\\' OR LOWER(e.location) LIKE ? ESCAPE '\\' " +
+                       "OR LOWER(e.type) LIKE ? ESCAPE '\\'");
+            args.add(pattern);
+            args.add(pattern);
+            args.add(pattern);
+            if (includeComments) {
+                sql.append(" OR EXISTS (SELECT 1 FROM event_comments c WHERE c.event_id = e.id " +
+                           "AND LOWER(c.content) LIKE ? ESCAPE '\\')");
+                args.add(pattern);
+            }
+            sql.append(")");
+        }
+        sql.append(" ORDER BY e.start_date, e.id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), HIT_MAPPER, args.toArray());
+    }
+
+    private boolean isPostgres() {
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) con ->
+                "PostgreSQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName()));
+    }
+}
@@ -0,0 +1,35 @@
+package com.EventFlow.backend.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.EventFlow.backend.model.OutboundEmail;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboundEmailRepository extends JpaRepository<OutboundEmail, Long> {
+
+    // Next due batch. Rows locked by another instance are skipped (FOR UPDATE SKIP LOCKED); the caller leases
+    // them with leaseUntil in the same transaction so they stay claimed after the locks are released.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM OutboundEmail m " +
+           "WHERE m.status = com.EventFlow.backend.model.OutboundEmailStatus.PENDING AND m.nextAttemptAt <= :now " +
+           "ORDER BY m.id ASC")
+    List<OutboundEmail> findDueForDispatch(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 🔹 Hides claimed rows from other dispatchers until the lease ends (or they are removed / rescheduled)
+    @Modifying
+    @Query("UPDATE OutboundEmail m SET m.nextAttemptAt = :leasedUntil WHERE m.id IN :ids")
+    int leaseUntil(@Param("ids") Collection<Long> ids, @Param("leasedUntil") LocalDateTime leasedUntil);
+}
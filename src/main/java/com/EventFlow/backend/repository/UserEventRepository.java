@@ -1,11 +1,17 @@
 package com.EventFlow.backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.EventFlow.backend.dto.EventDTO;
 import com.EventFlow.backend.model.Event;
 import com.EventFlow.backend.model.User;
 import com.EventFlow.backend.model.UserEvent;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +20,52 @@ public interface UserEventRepository extends JpaRepository<UserEvent, Long> {
     Optional<UserEvent> findByUserAndEvent(User user, Event event);
     Optional<UserEvent> findByUserAndEventAndHierarchy(User user, Event event, int hierarchy);
     List<UserEvent> findByEventIn(List<Event> events);
+    List<UserEvent> findByUserIdInAndEventIdIn(Collection<Long> userIds, Collection<Long> eventIds);
+    boolean existsByUserAndEventId(User user, Long eventId);
+
+    @Query("SELECT ue.user.id FROM UserEvent ue WHERE ue.event.id = :eventId")
+    List<Long> findUserIdsByEventId(@Param("eventId") Long eventId);
+    boolean existsByUserAndEventIdAndHierarchy(User user, Long eventId, int hierarchy);
+
+    // 🔹 {eventId, eventOrder} of all the user's events of the given hierarchy, in display order
+    @Query("SELECT e.id, e.eventOrder FROM UserEvent ue JOIN ue.event e " +
+           "WHERE ue.user = :user AND ue.hierarchy = :hierarchy ORDER BY e.eventOrder ASC, e.id ASC")
+    List<Object[]> findEventOrders(@Param("user") User user,
+                                   @Param("hierarchy") int hierarchy);
+
+    @Modifying
+    @Query("DELETE FROM UserEvent ue WHERE ue.event.id IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    // 🔹 User's events projected into EventDTO in one query, filtered and ordered by the database
+    @Query("SELECT new com.EventFlow.backend.dto.EventDTO(e.id, e.description, e.importanceLevel, e.location, e.type, " +
+           "e.startDate, e.dueDate, e.isDone, e.eventOrder, ue.hierarchy) " +
+           "FROM UserEvent ue JOIN ue.event e " +
+           "WHERE ue.user = :user AND ue.hierarchy = :hierarchy AND (:unfinishedOnly = false OR e.isDone = false) " +
+           "ORDER BY e.eventOrder ASC, e.id ASC")
+    List<EventDTO> findEventDTOsByUserAndHierarchy(@Param("user") User user,
+                                                   @Param("hierarchy") int hierarchy,
+                                                   @Param("unfinishedOnly") boolean unfinishedOnly);
+
+    // 🔹 Keyset page of the same listing: rows strictly after (afterOrder, afterId), size taken from pageable
+    @Query("SELECT new com.EventFlow.backend.dto.EventDTO(e.id, e.description, e.importanceLevel, e.location, e.type, " +
+           "e.startDate, e.dueDate, e.isDone, e.eventOrder, ue.hierarchy) " +
+           "FROM UserEvent ue JOIN ue.event e " +
+           "WHERE ue.user = :user AND ue.hierarchy = :hierarchy AND (:unfinishedOnly = false OR e.isDone = false) " +
+           "AND (e.eventOrder > :afterOrder OR (e.eventOrder = :afterOrder AND e.id > :afterId)) " +
+           "ORDER BY e.eventOrder ASC, e.id ASC")
+    List<EventDTO> findEventDTOPageByUserAndHierarchy(@Param("user") User user,
+                                                      @Param("hierarchy") int hierarchy,
+                                                      @Param("unfinishedOnly") boolean unfinishedOnly,
+                                                      @Param("afterOrder") int afterOrder,
+                                                      @Param("afterId") long afterId,
+                                                      Pageable pageable);
+
+    // 🔹 Agenda tree in one query: each row is {UserEvent (main event fetched), sub event or null},
+    // sub events ordered by (eventOrder, id). No rows when the user does not own the main event.
+    @Query("SELECT ue, s FROM UserEvent ue JOIN FETCH ue.event m " +
+           "LEFT JOIN AgendaItem a ON a.mainEvent = m LEFT JOIN a.itemAgenda s " +
+           "WHERE ue.user = :user AND m.id = :eventId AND ue.hierarchy = 1 " +
+           "ORDER BY s.eventOrder ASC, s.id ASC")
+    List<Object[]> findEventTreeRows(@Param("user") User user, @Param("eventId") Long eventId);
 }
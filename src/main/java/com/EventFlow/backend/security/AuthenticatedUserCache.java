@@ -0,0 +1,52 @@
+package com.EventFlow.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.EventFlow.backend.model.User;
+import com.EventFlow.backend.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// Bounded cache of users keyed by id (the JWT subject), evicted by size and TTL.
+// Cached users are shared between requests: treat them as read-only and load a fresh entity before modifying it.
+@Component
+public class AuthenticatedUserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, User> cache;
+
+    public AuthenticatedUserCache(UserRepository userRepository,
+                                  @Value("${eventflow.user-cache.max-size:10000}") long maxSize,
+                                  @Value("${eventflow.user-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats() // hit / miss / eviction counters
+                .build();
+    }
+
+    public Optional<User> get(Long userId) {
+        // Unknown ids are not cached, so a user created later is found on the next lookup
+        return Optional.ofNullable(cache.get(userId, id -> userRepository.findById(id).orElse(null)));
+    }
+
+    // Must be called whenever a user is updated or deleted
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public Cache<Long, User> getNativeCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,38 @@
+package com.EventFlow.backend.security;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.stereotype.Component;
+
+import com.EventFlow.backend.model.User;
+
+// Resolves the token subject (userId) to a User once per request and wraps it in an AuthenticatedUserToken.
+// Lookups go through AuthenticatedUserCache, so a warm cache needs no database access.
+@Component
+public class AuthenticatedUserConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private final AuthenticatedUserCache userCache;
+    private final JwtGrantedAuthoritiesConverter authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+
+    public AuthenticatedUserConverter(AuthenticatedUserCache userCache) {
+        this.userCache = userCache;
+    }
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        Long userId;
+        try {
+            userId = Long.parseLong(jwt.getSubject());
+        } catch (NumberFormatException e) {
+            throw new InvalidBearerTokenException("Invalid token subject");
+        }
+
+        User user = userCache.get(userId)
+                .orElseThrow(() -> new InvalidBearerTokenException("User not found"));
+
+        return new AuthenticatedUserToken(jwt, user, authoritiesConverter.convert(jwt));
+    }
+}
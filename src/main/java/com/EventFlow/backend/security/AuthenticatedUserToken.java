@@ -0,0 +1,36 @@
+package com.EventFlow.backend.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.AbstractOAuth2TokenAuthenticationToken;
+
+import com.EventFlow.backend.model.User;
+
+import java.util.Collection;
+import java.util.Map;
+
+// Authentication stored in the SecurityContext once the JWT is validated.
+// The principal is the User resolved from the token subject, so services can read it without another query.
+public class AuthenticatedUserToken extends AbstractOAuth2TokenAuthenticationToken<Jwt> {
+
+    private static final long serialVersionUID = 1L;
+
+    public AuthenticatedUserToken(Jwt jwt, User user, Collection<? extends GrantedAuthority> authorities) {
+        super(jwt, user, jwt, authorities);
+        setAuthenticated(true);
+    }
+
+    public User getUser() {
+        return (User) getPrincipal();
+    }
+
+    @Override
+    public Map<String, Object> getTokenAttributes() {
+        return getToken().getClaims();
+    }
+
+    @Override
+    public String getName() {
+        return getToken().getSubject(); // userId, same as JwtAuthenticationToken
+    }
+}
@@ -1,18 +1,26 @@
 package com.EventFlow.backend.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 
+import com.EventFlow.backend.metrics.ScrapeTokenAuthorizationManager;
+import com.EventFlow.backend.metrics.TimedJwtDecoder;
+
 import javax.crypto.SecretKey;
 import org.springframework.security.config.http.SessionCreationPolicy;
 
@@ -21,14 +29,17 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
+    private final AuthenticatedUserConverter authenticatedUserConverter;
 
-    public SecurityConfig(JwtUtil jwtUtil) {
+    public SecurityConfig(JwtUtil jwtUtil, AuthenticatedUserConverter authenticatedUserConverter) {
         this.jwtUtil = jwtUtil;
+        this.authenticatedUserConverter = authenticatedUserConverter;
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withSecretKey(jwtUtil.getSecretKey()).macAlgorithm(org.springframework.security.oauth2.jose.jws.MacAlgorithm.HS256).build();
+    public JwtDecoder jwtDecoder(MeterRegistry meterRegistry) {
+        JwtDecoder decoder = NimbusJwtDecoder.withSecretKey(jwtUtil.getSecretKey()).macAlgorithm(org.springframework.security.oauth2.jose.jws.MacAlgorithm.HS256).build();
+        return new TimedJwtDecoder(decoder, meterRegistry); // ✅ eventflow.jwt.decode timer
     }
 
     @Bean
@@ -41,6 +52,21 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    // Prometheus endpoint: static scrape token only (eventflow.metrics.scrape-token), never user JWTs or anonymous
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsSecurityFilterChain(HttpSecurity http,
+                                                          @Value("${eventflow.metrics.scrape-token:}") String scrapeToken) throws Exception {
+        http
+            .securityMatcher("/actuator/prometheus")
+            .csrf(csrf -> csrf.disable())
+            .authorizeHttpRequests(auth -> auth.anyRequest().access(new ScrapeTokenAuthorizationManager(scrapeToken)))
+            .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -54,22 +80,18 @@ public class SecurityConfig {
                     "/swagger-ui/**",
                     "/v3/api-docs/**",
                     "/auth/forgot-password",
-                    "/auth/reset-password"
+                    "/auth/reset-password",
+                    "/actuator/health"
                 ).permitAll()
                 .anyRequest().authenticated()
             )
             .oauth2ResourceServer(oauth2 -> oauth2
-                .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter()))
+                .jwt(jwt -> jwt.jwtAuthenticationConverter(authenticatedUserConverter)) // ✅ User resolved once per request
             )
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
         return http.build();
     }
-
-    @Bean
-    public JwtAuthenticationConverter jwtAuthenticationConverter() {
-        return new JwtAuthenticationConverter();
-    }
 }
 
 
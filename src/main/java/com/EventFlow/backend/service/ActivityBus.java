@@ -0,0 +1,207 @@
+package com.EventFlow.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.EventFlow.backend.dto.ActivityDTO;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// In-process publish/subscribe for live activity (comments, invitations), keyed by the user an update is for.
+// Updates are handed over once the publishing transaction commits. Every subscription has its own small bounded
+// buffer, drained on a shared sender pool one subscription at a time: publishing never blocks, and a subscriber
+// that stalls (e.g. an SSE client that stopped reading) only holds up itself. One that falls a full buffer behind
+// is unsubscribed and told so, instead of buffering without limit. Only reaches users connected to this instance.
+@Component
+public class ActivityBus {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityBus.class);
+
+    // Queued by heartbeat(); never published, and told apart from real updates by identity
+    private static final ActivityDTO HEARTBEAT = new ActivityDTO(null, null, Map.of());
+
+    public interface Subscriber {
+        void onActivity(ActivityDTO activity);
+
+        // Sent by heartbeat() to subscriptions with nothing buffered
+        default void onHeartbeat() {
+        }
+
+        // The subscription fell a full buffer behind and has been cancelled
+        default void onOverflow() {
+        }
+    }
+
+    private final ConcurrentHashMap<Long, List<Subscription>> subscribers = new ConcurrentHashMap<>();
+    private final Executor sender;
+    private final int bufferSize;
+    private final Counter overflowCounter;
+
+    @Autowired
+    public ActivityBus(MeterRegistry meterRegistry,
+                       @Value("${eventflow.activity.subscriber-buffer:64}") int bufferSize,
+                       @Value("${eventflow.activity.sender-threads:4}") int senderThreads) {
+        this(meterRegistry, senderPool(senderThreads), bufferSize);
+    }
+
+    private static ExecutorService senderPool(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "activity-sender-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    ActivityBus(MeterRegistry meterRegistry, Executor sender, int bufferSize) {
+        this.sender = sender;
+        this.bufferSize = bufferSize;
+        this.overflowCounter = meterRegistry.counter("eventflow.activity.overflows");
+        Gauge.builder("eventflow.activity.subscribers", this, bus -> bus.subscribers.values().stream().mapToInt(List::size).sum())
+                .description("Open activity subscriptions (e.g. SSE streams)")
+                .register(meterRegistry);
+    }
+
+    // Returns the action that cancels the subscription
+    public Runnable subscribe(long userId, Subscriber subscriber) {
+        Subscription subscription = new Subscription(userId, subscriber);
+        // Added inside compute, atomically with cancel() removing an emptied list: adding to a list fetched first could
+        // land in one a concurrent cancel has just dropped from the map, and the subscription would never be reached
+        subscribers.compute(userId, (id, subscriptions) -> {
+            List<Subscription> list = subscriptions != null ? subscriptions : new CopyOnWriteArrayList<>();
+            list.add(subscription);
+            return list;
+        });
+        return subscription::cancel;
+    }
+
+    // Lets publishers skip computing the audience of an update when nobody is listening
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    public void publish(Collection<Long> userIds, ActivityDTO activity) {
+        if (subscribers.isEmpty() || userIds.isEmpty()) {
+            return;
+        }
+        List<Long> recipients = List.copyOf(new LinkedHashSet<>(userIds));
+        AfterCommit.run(() -> {
+            for (Long userId : recipients) {
+                subscribers.getOrDefault(userId, List.of()).forEach(subscription -> subscription.offer(activity));
+            }
+        });
+    }
+
+    // Keeps idle subscriptions alive; busy ones already have traffic on the way
+    public void heartbeat() {
+        subscribers.values().forEach(subscriptions -> subscriptions.forEach(subscription -> {
+            if (subscription.buffer.isEmpty()) {
+                subscription.offer(HEARTBEAT);
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private final class Subscription {
+        private final long userId;
+        private final Subscriber subscriber;
+        private final BlockingQueue<ActivityDTO> buffer = new ArrayBlockingQueue<>(bufferSize);
+        // At most one drain per subscription is queued or running, so its updates stay in order
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        Subscription(long userId, Subscriber subscriber) {
+            this.userId = userId;
+            this.subscriber = subscriber;
+        }
+
+        void offer(ActivityDTO activity) {
+            if (cancelled.get()) {
+                return;
+            }
+            if (!buffer.offer(activity)) {
+                overflow();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            ActivityDTO activity;
+            while (!cancelled.get() && (activity = buffer.poll()) != null) {
+                try {
+                    if (activity == HEARTBEAT) {
+                        subscriber.onHeartbeat();
+                    } else {
+                        subscriber.onActivity(activity);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Activity subscriber of user {} failed", userId, e);
+                }
+            }
+            draining.set(false);
+            // An offer may have come in after the last poll but before the flag was cleared
+            if (!cancelled.get() && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void overflow() {
+            if (cancel()) {
+                overflowCounter.increment();
+                log.info("Activity subscriber of user {} fell {} updates behind, dropping it", userId, bufferSize);
+                try {
+                    subscriber.onOverflow();
+                } catch (RuntimeException e) {
+                    log.warn("Activity subscriber of user {} failed on overflow", userId, e);
+                }
+            }
+        }
+
+        // Returns false if it was already cancelled
+        boolean cancel() {
+            if (!cancelled.compareAndSet(false, true)) {
+                return false;
+            }
+            buffer.clear();
+            subscribers.computeIfPresent(userId, (id, subscriptions) -> {
+                subscriptions.remove(this);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            });
+            return true;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.EventFlow.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.EventFlow.backend.dto.ActivityDTO;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Server-Sent Events transport for ActivityBus: one SseEmitter per open stream, subscribed for the user who opened it
+@Service
+public class ActivityStreamService {
+
+    private final ActivityBus activityBus;
+    private final long streamTimeoutMs;
+
+    // Open stream -> its bus unsubscribe action
+    private final ConcurrentHashMap<SseEmitter, Runnable> streams = new ConcurrentHashMap<>();
+
+    public ActivityStreamService(ActivityBus activityBus,
+                                 @Value("${eventflow.activity.stream-timeout-ms:1800000}") long streamTimeoutMs) {
+        this.activityBus = activityBus;
+        this.streamTimeoutMs = streamTimeoutMs;
+    }
+
+    public SseEmitter open(long userId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        streams.put(emitter, activityBus.subscribe(userId, new ActivityBus.Subscriber() {
+            @Override
+            public void onActivity(ActivityDTO activity) {
+                send(emitter, activity);
+            }
+
+            @Override
+            public void onHeartbeat() {
+                send(emitter, SseEmitter.event().comment("heartbeat"));
+            }
+
+            // A client that stopped reading: end the stream, it reconnects and reloads what it missed
+            @Override
+            public void onOverflow() {
+                close(emitter);
+                emitter.complete();
+            }
+        }));
+        emitter.onCompletion(() -> close(emitter));
+        emitter.onTimeout(() -> close(emitter));
+        emitter.onError(e -> close(emitter));
+
+        // 🔹 Sent right away so the response is committed and the client sees the stream open
+        send(emitter, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    // Keeps idle streams open through proxies and finds clients that went away. Sent through the bus, so a stalled
+    // stream never blocks the scheduler thread
+    @Scheduled(fixedDelayString = "${eventflow.activity.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        activityBus.heartbeat();
+    }
+
+    private void send(SseEmitter emitter, ActivityDTO activity) {
+        send(emitter, SseEmitter.event().name(activity.getType().name()).data(activity));
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            close(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void close(SseEmitter emitter) {
+        Runnable unsubscribe = streams.remove(emitter);
+        if (unsubscribe != null) {
+            unsubscribe.run();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.EventFlow.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.EventFlow.backend.dto.EventCommentDTO;
+import com.EventFlow.backend.dto.PendingCommentDTO;
+import com.EventFlow.backend.exception.IngestQueueFullException;
+import com.EventFlow.backend.repository.EventCommentRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+// Write-behind buffer for new comments. Requests are validated by EventInvitationService and only enqueue here;
+// a single flusher thread writes whatever has accumulated as one batched INSERT, so a burst on a hot event costs
+// one commit per batch instead of one per comment. A full queue rejects the comment (429) instead of growing.
+// Comments still in the queue are written on shutdown, but are lost if the process dies.
+@Component
+public class CommentIngestQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentIngestQueue.class);
+    private static final long IDLE_POLL_MS = 100;
+
+    private final EventCommentRepository eventCommentRepository;
+    private final BlockingQueue<PendingCommentDTO> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter storedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    // Notified on the flusher thread once per event and flush, with the stored comments in queue order
+    public interface Listener {
+        void commentsStored(Long eventId, List<EventCommentDTO> comments);
+    }
+
+    public CommentIngestQueue(EventCommentRepository eventCommentRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${eventflow.comments.ingest.queue-capacity:10000}") int capacity,
+                              @Value("${eventflow.comments.ingest.batch-size:500}") int batchSize,
+                              @Value("${eventflow.comments.ingest.flush-interval-ms:5}") long flushIntervalMs) {
+        this.eventCommentRepository = eventCommentRepository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+
+        this.acceptedCounter = meterRegistry.counter("eventflow.comments.ingest", "result", "accepted");
+        this.rejectedCounter = meterRegistry.counter("eventflow.comments.ingest", "result", "rejected");
+        this.storedCounter = meterRegistry.counter("eventflow.comments.ingest", "result", "stored");
+        this.failedCounter = meterRegistry.counter("eventflow.comments.ingest", "result", "failed");
+        this.flushTimer = meterRegistry.timer("eventflow.comments.ingest.flush");
+        Gauge.builder("eventflow.comments.ingest.queued", queue, BlockingQueue::size)
+                .description("Accepted comments waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        flusher = new Thread(this::run, "comment-ingest");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // Lets the flusher finish its batch, then writes what is left
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        while (flush() > 0) {
+            // drain
+        }
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void submit(PendingCommentDTO comment) {
+        if (!queue.offer(comment)) {
+            rejectedCounter.increment();
+            throw new IngestQueueFullException("Too many comments right now, please retry shortly");
+        }
+        acceptedCounter.increment();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                PendingCommentDTO first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // 🔹 Give a burst a few ms to fill the batch; under sustained load the queue is never short of one
+                if (queue.size() < batchSize - 1) {
+                    Thread.sleep(flushIntervalMs);
+                }
+                List<PendingCommentDTO> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Comment flush failed", e);
+            }
+        }
+    }
+
+    // Writes up to one batch of what is queued now; returns the number of comments taken
+    int flush() {
+        List<PendingCommentDTO> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+        return batch.size();
+    }
+
+    private void write(List<PendingCommentDTO> batch) {
+        Map<Long, List<EventCommentDTO>> storedByEvent = new LinkedHashMap<>();
+        flushTimer.record(() -> {
+            try {
+                collect(batch, eventCommentRepository.insertComments(batch), storedByEvent);
+            } catch (DataAccessException e) {
+                // One bad row (e.g. its event was deleted after validation) fails the whole batch: keep the others
+                log.warn("Batch of {} comments failed, retrying one by one: {}", batch.size(), e.getMessage());
+                for (PendingCommentDTO comment : batch) {
+                    try {
+                        collect(List.of(comment), eventCommentRepository.insertComments(List.of(comment)), storedByEvent);
+                    } catch (DataAccessException rowError) {
+                        failedCounter.increment();
+                        log.warn("Dropped comment of user {} on event {}: {}",
+                                comment.getAuthorId(), comment.getEventId(), rowError.getMessage());
+                    }
+                }
+            }
+        });
+        storedByEvent.forEach(this::notifyStored);
+    }
+
+    private void collect(List<PendingCommentDTO> comments, List<Long> ids, Map<Long, List<EventCommentDTO>> storedByEvent) {
+        for (int i = 0; i < comments.size(); i++) {
+            PendingCommentDTO comment = comments.get(i);
+            storedByEvent.computeIfAbsent(comment.getEventId(), id -> new ArrayList<>())
+                    .add(new EventCommentDTO(ids.get(i), comment.getAuthorEmail(), comment.getCreatedAt(), comment.getText()));
+        }
+        storedCounter.increment(comments.size());
+    }
+
+    private void notifyStored(Long eventId, List<EventCommentDTO> comments) {
+        for (Listener listener : listeners) {
+            try {
+                listener.commentsStored(eventId, comments);
+            } catch (RuntimeException e) {
+                log.warn("Comment listener failed for event {}", eventId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.EventFlow.backend.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.EventFlow.backend.repository.ContactRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// In-memory adjacency index of accepted contacts: user id -> sorted array of friend ids.
+// Built from user_contacts before the web server starts, kept up to date by UserService after each
+// friendship change commits, and fully reloaded on a fixed delay to pick up writes made by other instances.
+@Component
+public class ContactGraph implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ContactGraph.class);
+    private static final long[] NO_CONTACTS = new long[0];
+    // Rough per-user cost of a map entry: node + boxed key + array header
+    private static final long ENTRY_OVERHEAD_BYTES = 32 + 16 + 16;
+
+    private final ContactRepository contactRepository;
+    private volatile ConcurrentHashMap<Long, long[]> adjacency = new ConcurrentHashMap<>();
+
+    // Changes applied while a reload is reading the table are replayed on the new map before it is swapped in
+    private final Object reloadLock = new Object();
+    private final List<Consumer<Map<Long, long[]>>> changesDuringReload = new ArrayList<>();
+    private boolean reloading; // guarded by this
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    // Notified after each change has been applied (from the committing thread), e.g. to refresh derived caches
+    public interface Listener {
+        void friendshipChanged(long userId, long otherUserId);
+
+        void reloaded();
+    }
+
+    public ContactGraph(ContactRepository contactRepository, MeterRegistry meterRegistry) {
+        this.contactRepository = contactRepository;
+
+        Gauge.builder("eventflow.contact.graph.users", this, graph -> graph.adjacency.size())
+                .description("Users with at least one accepted contact in the in-memory contact graph")
+                .register(meterRegistry);
+        Gauge.builder("eventflow.contact.graph.edges", this, ContactGraph::edgeCount)
+                .description("Accepted friendships in the in-memory contact graph")
+                .register(meterRegistry);
+        Gauge.builder("eventflow.contact.graph.memory", this, ContactGraph::estimatedBytes)
+                .description("Estimated heap used by the in-memory contact graph")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${eventflow.contact-graph.reload-interval-ms:600000}",
+               fixedDelayString = "${eventflow.contact-graph.reload-interval-ms:600000}")
+    public void reload() {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                reloading = true;
+            }
+            try {
+                long start = System.nanoTime();
+                ConcurrentHashMap<Long, long[]> loaded = load();
+                synchronized (this) {
+                    changesDuringReload.forEach(change -> change.accept(loaded));
+                    adjacency = loaded;
+                }
+                listeners.forEach(Listener::reloaded);
+                log.info("Loaded contact graph: {} users, {} friendships in {} ms",
+                        loaded.size(), edgeCount(), (System.nanoTime() - start) / 1_000_000);
+            } finally {
+                synchronized (this) {
+                    reloading = false;
+                    changesDuringReload.clear();
+                }
+            }
+        }
+    }
+
+    private ConcurrentHashMap<Long, long[]> load() {
+        Map<Long, long[]> building = new HashMap<>();
+        Map<Long, Integer> sizes = new HashMap<>();
+        for (Object[] pair : contactRepository.findAcceptedPairs()) {
+            long a = (Long) pair[0];
+            long b = (Long) pair[1];
+            append(building, sizes, a, b);
+            append(building, sizes, b, a);
+        }
+
+        ConcurrentHashMap<Long, long[]> loaded = new ConcurrentHashMap<>(building.size() * 2);
+        building.forEach((userId, ids) -> {
+            long[] contacts = Arrays.copyOf(ids, sizes.get(userId));
+            Arrays.sort(contacts);
+            loaded.put(userId, distinct(contacts));
+        });
+        return loaded;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    // 🔹 Sorted ids of the user's accepted contacts. Shared with the index: callers must not modify it.
+    public long[] contactsOf(long userId) {
+        return adjacency.getOrDefault(userId, NO_CONTACTS);
+    }
+
+    public boolean areFriends(long userId, long otherUserId) {
+        return Arrays.binarySearch(contactsOf(userId), otherUserId) >= 0;
+    }
+
+    // Mutations are applied once the surrounding transaction commits (immediately if there is none),
+    // so a rolled-back change never shows up in the index
+    public void addFriendship(long userId, long otherUserId) {
+        apply(graph -> {
+            graph.compute(userId, (id, contacts) -> insert(contacts, otherUserId));
+            graph.compute(otherUserId, (id, contacts) -> insert(contacts, userId));
+        }, () -> notifyChanged(userId, otherUserId));
+    }
+
+    public void removeFriendship(long userId, long otherUserId) {
+        apply(graph -> {
+            graph.computeIfPresent(userId, (id, contacts) -> remove(contacts, otherUserId));
+            graph.computeIfPresent(otherUserId, (id, contacts) -> remove(contacts, userId));
+        }, () -> notifyChanged(userId, otherUserId));
+    }
+
+    public void removeUser(long userId) {
+        long[] formerContacts = contactsOf(userId);
+        apply(graph -> {
+            long[] contacts = graph.remove(userId);
+            if (contacts != null) {
+                for (long contactId : contacts) {
+                    graph.computeIfPresent(contactId, (id, ids) -> remove(ids, userId));
+                }
+            }
+        }, () -> {
+            for (long contactId : formerContacts) {
+                notifyChanged(userId, contactId);
+            }
+        });
+    }
+
+    // Writers are serialized (friendship changes are rare); readers never lock
+    private void apply(Consumer<Map<Long, long[]>> change, Runnable notification) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                change.accept(adjacency);
+                if (reloading) {
+                    changesDuringReload.add(change);
+                }
+            }
+            notification.run();
+        });
+    }
+
+    private void notifyChanged(long userId, long otherUserId) {
+        for (Listener listener : listeners) {
+            listener.friendshipChanged(userId, otherUserId);
+        }
+    }
+
+    // Copy-on-write so readers holding the previous array never see it change
+    private static long[] insert(long[] contacts, long contactId) {
+        if (contacts == null) {
+            return new long[] { contactId };
+        }
+        int index = Arrays.binarySearch(contacts, contactId);
+        if (index >= 0) {
+            return contacts;
+        }
+        int insertAt = -index - 1;
+        long[] updated = new long[contacts.length + 1];
+        System.arraycopy(contacts, 0, updated, 0, insertAt);
+        updated[insertAt] = contactId;
+        System.arraycopy(contacts, insertAt, updated, insertAt + 1, contacts.length - insertAt);
+        return updated;
+    }
+
+    // Returning null drops the user from the map once their last contact is gone
+    private static long[] remove(long[] contacts, long contactId) {
+        int index = Arrays.binarySearch(contacts, contactId);
+        if (index < 0) {
+            return contacts;
+        }
+        if (contacts.length == 1) {
+            return null;
+        }
+        long[] updated = new long[contacts.length - 1];
+        System.arraycopy(contacts, 0, updated, 0, index);
+        System.arraycopy(contacts, index + 1, updated, index, contacts.length - index - 1);
+        return updated;
+    }
+
+    private static void append(Map<Long, long[]> building, Map<Long, Integer> sizes, long userId, long contactId) {
+        long[] ids = building.computeIfAbsent(userId, id -> new long[4]);
+        int size = sizes.getOrDefault(userId, 0);
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            building.put(userId, ids);
+        }
+        ids[size] = contactId;
+        sizes.put(userId, size + 1);
+    }
+
+    private static long[] distinct(long[] sorted) {
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+
+    private long edgeCount() {
+        long directed = 0;
+        for (long[] contacts : adjacency.values()) {
+            directed += contacts.length;
+        }
+        return directed / 2;
+    }
+
+    private long estimatedBytes() {
+        long bytes = 0;
+        for (long[] contacts : adjacency.values()) {
+            bytes += ENTRY_OVERHEAD_BYTES + 8L * contacts.length;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,39 @@
+package com.EventFlow.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.EventFlow.backend.repository.ContactRepository;
+
+// ddl-auto=update adds the user_low_id / user_high_id columns to user_contacts but leaves them empty
+// on existing rows; fill them once at startup (a no-op afterwards) so friendship lookups by pair see every row.
+// Runs once the schema is up but before the web server starts, so no request ever sees a half-migrated table
+@Component
+public class ContactPairBackfill implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ContactPairBackfill.class);
+
+    private final ContactRepository contactRepository;
+    private final ContactGraph contactGraph;
+
+    public ContactPairBackfill(ContactRepository contactRepository, ContactGraph contactGraph) {
+        this.contactRepository = contactRepository;
+        this.contactGraph = contactGraph;
+    }
+
+    @Override
+    @Transactional
+    public void afterSingletonsInstantiated() {
+        int duplicates = contactRepository.deleteUnpairedDuplicates();
+        int filled = contactRepository.backfillPairs();
+        if (duplicates > 0 || filled > 0) {
+            log.info("Normalized {} contact rows, removed {} duplicate reverse-direction rows", filled, duplicates);
+        }
+        if (duplicates > 0) {
+            contactGraph.reload();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.EventFlow.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.EventFlow.backend.dto.ContactSuggestionDTO;
+import com.EventFlow.backend.dto.UserDTO;
+import com.EventFlow.backend.model.User;
+import com.EventFlow.backend.repository.ContactRepository;
+import com.EventFlow.backend.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Mutual contacts and "people you may know", computed on the in-memory ContactGraph.
+// Suggestions are cached per user and invalidated only for the users a friendship change affects:
+// the two users involved and their contacts (whose friends-of-friends go through them).
+@Service
+public class ContactSuggestionService implements ContactGraph.Listener {
+
+    // When one list is this many times longer than the other, binary-search the long one instead of merging
+    private static final int GALLOP_RATIO = 16;
+
+    private final ContactGraph contactGraph;
+    private final ContactRepository contactRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final int suggestionsPerUser;
+    private final Cache<Long, List<Suggestion>> suggestions;
+
+    record Suggestion(long userId, int mutualContacts) {
+    }
+
+    public ContactSuggestionService(ContactGraph contactGraph,
+                                    ContactRepository contactRepository,
+                                    UserRepository userRepository,
+                                    UserService userService,
+                                    @Value("${eventflow.contact-suggestions.per-user:50}") int suggestionsPerUser,
+                                    @Value("${eventflow.contact-suggestions.cache-size:10000}") long cacheSize,
+                                    @Value("${eventflow.contact-suggestions.ttl:1h}") Duration ttl) {
+        this.contactGraph = contactGraph;
+        this.contactRepository = contactRepository;
+        this.userRepository = userRepository;
+        this.userService = userService;
+        this.suggestionsPerUser = suggestionsPerUser;
+        this.suggestions = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        contactGraph.addListener(this);
+    }
+
+    public List<UserDTO> getMutualContacts(Long otherUserId) {
+        User user = userService.getAuthenticatedUser();
+        if (user.getId().equals(otherUserId)) {
+            throw new RuntimeException("Mutual contacts need two different users");
+        }
+
+        long[] mutual = intersect(contactGraph.contactsOf(user.getId()), contactGraph.contactsOf(otherUserId));
+        return userRepository.findAllById(Arrays.stream(mutual).boxed().collect(Collectors.toList())).stream()
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .map(UserDTO::new)
+                .collect(Collectors.toList());
+    }
+
+    public List<ContactSuggestionDTO> getSuggestions(int limit) {
+        if (limit < 1 || limit > suggestionsPerUser) {
+            throw new RuntimeException("limit must be between 1 and " + suggestionsPerUser);
+        }
+        User user = userService.getAuthenticatedUser();
+
+        // Pending requests change without touching the graph, so they are filtered at read time
+        Set<Long> pending = new HashSet<>(contactRepository.findPendingContactIds(user.getId()));
+        List<Suggestion> ranked = suggestions.get(user.getId(), this::computeSuggestions).stream()
+                .filter(suggestion -> !pending.contains(suggestion.userId()))
+                .limit(limit)
+                .collect(Collectors.toList());
+        if (ranked.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, User> users = userRepository.findAllById(ranked.stream().map(Suggestion::userId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return ranked.stream()
+                .filter(suggestion -> users.containsKey(suggestion.userId()))
+                .map(suggestion -> new ContactSuggestionDTO(users.get(suggestion.userId()), suggestion.mutualContacts()))
+                .collect(Collectors.toList());
+    }
+
+    // Friends of friends who are not already friends, by mutual contact count (then id), top suggestionsPerUser
+    List<Suggestion> computeSuggestions(long userId) {
+        long[] friends = contactGraph.contactsOf(userId);
+        Map<Long, Integer> mutualCounts = new HashMap<>();
+        for (long friendId : friends) {
+            for (long candidateId : contactGraph.contactsOf(friendId)) {
+                if (candidateId != userId && Arrays.binarySearch(friends, candidateId) < 0) {
+                    mutualCounts.merge(candidateId, 1, Integer::sum);
+                }
+            }
+        }
+
+        // Min-heap of the best suggestionsPerUser seen so far; its head is the weakest kept suggestion
+        PriorityQueue<Suggestion> best = new PriorityQueue<>(suggestionsPerUser + 1,
+                (a, b) -> a.mutualContacts() != b.mutualContacts()
+                        ? Integer.compare(a.mutualContacts(), b.mutualContacts())
+                        : Long.compare(b.userId(), a.userId()));
+        mutualCounts.forEach((candidateId, count) -> {
+            best.add(new Suggestion(candidateId, count));
+            if (best.size() > suggestionsPerUser) {
+                best.poll();
+            }
+        });
+
+        List<Suggestion> ranked = new ArrayList<>(best);
+        ranked.sort((a, b) -> a.mutualContacts() != b.mutualContacts()
+                ? Integer.compare(b.mutualContacts(), a.mutualContacts())
+                : Long.compare(a.userId(), b.userId()));
+        return List.copyOf(ranked);
+    }
+
+    // Intersection of two sorted id arrays
+    static long[] intersect(long[] a, long[] b) {
+        if (a.length > b.length) {
+            long[] swap = a;
+            a = b;
+            b = swap;
+        }
+        long[] result = new long[a.length];
+        int size = 0;
+        if ((long) a.length * GALLOP_RATIO < b.length) {
+            for (long id : a) {
+                if (Arrays.binarySearch(b, id) >= 0) {
+                    result[size++] = id;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    result[size++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    @Override
+    public void friendshipChanged(long userId, long otherUserId) {
+        invalidateAround(userId);
+        invalidateAround(otherUserId);
+    }
+
+    @Override
+    public void reloaded() {
+        suggestions.invalidateAll();
+    }
+
+    private void invalidateAround(long userId) {
+        suggestions.invalidate(userId);
+        for (long contactId : contactGraph.contactsOf(userId)) {
+            suggestions.invalidate(contactId);
+        }
+    }
+
+    public Cache<Long, ?> getNativeCache() {
+        return suggestions;
+    }
+}
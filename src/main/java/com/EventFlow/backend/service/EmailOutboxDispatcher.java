@@ -0,0 +1,215 @@
+package com.EventFlow.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.EventFlow.backend.model.OutboundEmail;
+import com.EventFlow.backend.model.OutboundEmailStatus;
+import com.EventFlow.backend.repository.OutboundEmailRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Drains the email outbox in the background so request threads never wait on SMTP.
+// A batch is leased in a short transaction (its next attempt pushed past the lease so no other dispatcher takes
+// it), sent with no transaction or connection held, then removed or rescheduled in a second short transaction.
+// Each batch goes out through a single JavaMailSender.send(...) call, which opens one SMTP connection for the
+// whole batch; failed messages are retried with exponential backoff. A dispatcher that dies mid-send leaves its
+// batch to be retried once the lease expires.
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public EmailOutboxDispatcher(OutboundEmailRepository outboundEmailRepository,
+                                 JavaMailSender mailSender,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${eventflow.mail.outbox.batch-size:50}") int batchSize,
+                                 @Value("${eventflow.mail.outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${eventflow.mail.outbox.initial-backoff:30s}") Duration initialBackoff,
+                                 @Value("${eventflow.mail.outbox.max-backoff:1h}") Duration maxBackoff,
+                                 @Value("${eventflow.mail.outbox.lease:5m}") Duration lease) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.sentCounter = meterRegistry.counter("eventflow.mail.outbox", "result", "sent");
+        this.retriedCounter = meterRegistry.counter("eventflow.mail.outbox", "result", "retried");
+        this.failedCounter = meterRegistry.counter("eventflow.mail.outbox", "result", "failed");
+    }
+
+    @Scheduled(fixedDelayString = "${eventflow.mail.outbox.poll-interval-ms:5000}")
+    public void dispatch() {
+        List<OutboundEmail> batch = transactionTemplate.execute(status -> claim());
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            OutboundEmail email = batch.get(i);
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(email.getRecipient());
+            message.setSubject(email.getSubject());
+            message.setText(email.getBody());
+            messages[i] = message;
+        }
+
+        Exception[] failures = sendAll(messages);
+
+        List<OutboundEmail> sent = new ArrayList<>();
+        List<OutboundEmail> failed = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (failures[i] == null) {
+                sent.add(batch.get(i));
+            } else {
+                scheduleRetry(batch.get(i), failures[i]);
+                failed.add(batch.get(i));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 🔹 Delivered messages leave the outbox in one statement
+            if (!sent.isEmpty()) {
+                outboundEmailRepository.deleteAllInBatch(sent);
+            }
+            if (!failed.isEmpty()) {
+                outboundEmailRepository.saveAll(failed);
+            }
+        });
+        sentCounter.increment(sent.size());
+    }
+
+    // Locks the next due batch (SKIP LOCKED) just long enough to push it past the lease
+    private List<OutboundEmail> claim() {
+        List<OutboundEmail> batch = outboundEmailRepository.findDueForDispatch(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (!batch.isEmpty()) {
+            outboundEmailRepository.leaseUntil(batch.stream().map(OutboundEmail::getId).toList(), LocalDateTime.now().plus(lease));
+        }
+        return batch;
+    }
+
+    // Failure of each message, by index (null = delivered). MailSendException reports failures keyed by message
+    // equality, so identical messages (same recipient, subject and body) are never put in the same send call.
+    private Exception[] sendAll(SimpleMailMessage[] messages) {
+        Exception[] failures = new Exception[messages.length];
+        for (List<Integer> round : distinctRounds(messages)) {
+            SimpleMailMessage[] roundMessages = round.stream().map(i -> messages[i]).toArray(SimpleMailMessage[]::new);
+            Map<Object, Exception> roundFailures = send(roundMessages);
+            for (int i : round) {
+                failures[i] = roundFailures.get(messages[i]);
+            }
+        }
+        return failures;
+    }
+
+    // Splits the batch into rounds of pairwise distinct messages; one round unless the batch holds duplicates
+    private static List<List<Integer>> distinctRounds(SimpleMailMessage[] messages) {
+        List<List<Integer>> rounds = new ArrayList<>();
+        List<Set<SimpleMailMessage>> seen = new ArrayList<>();
+        for (int i = 0; i < messages.length; i++) {
+            int round = 0;
+            while (round < rounds.size() && seen.get(round).contains(messages[i])) {
+                round++;
+            }
+            if (round == rounds.size()) {
+                rounds.add(new ArrayList<>());
+                seen.add(new HashSet<>());
+            }
+            rounds.get(round).add(i);
+            seen.get(round).add(messages[i]);
+        }
+        return rounds;
+    }
+
+    // Returns the messages the server rejected, keyed by the message passed in
+    private Map<Object, Exception> send(SimpleMailMessage[] messages) {
+        try {
+            mailSender.send(messages);
+            return Map.of();
+        } catch (MailSendException e) {
+            if (!e.getFailedMessages().isEmpty()) {
+                return e.getFailedMessages();
+            }
+            return allFailed(messages, e);
+        } catch (MailException e) {
+            // Connection or authentication problem: nothing from this batch was delivered
+            return allFailed(messages, e);
+        }
+    }
+
+    private Map<Object, Exception> allFailed(SimpleMailMessage[] messages, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        for (SimpleMailMessage message : messages) {
+            failures.put(message, e);
+        }
+        return failures;
+    }
+
+    private void scheduleRetry(OutboundEmail email, Exception failure) {
+        email.setAttempts(email.getAttempts() + 1);
+        email.setLastError(truncate(failure.getMessage()));
+
+        if (email.getAttempts() >= maxAttempts) {
+            email.setStatus(OutboundEmailStatus.FAILED);
+            failedCounter.increment();
+            log.error("Giving up on email {} to {} after {} attempts: {}",
+                    email.getId(), email.getRecipient(), email.getAttempts(), email.getLastError());
+            return;
+        }
+
+        email.setNextAttemptAt(LocalDateTime.now().plus(backoff(email.getAttempts())));
+        retriedCounter.increment();
+        log.warn("Email {} to {} failed (attempt {}), retrying at {}: {}",
+                email.getId(), email.getRecipient(), email.getAttempts(), email.getNextAttemptAt(), email.getLastError());
+    }
+
+    // initialBackoff, 2x, 4x, ... capped at maxBackoff
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1,23 +1,22 @@
 package com.EventFlow.backend.service;
 
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.stereotype.Service;
 
+import com.EventFlow.backend.model.OutboundEmail;
+import com.EventFlow.backend.repository.OutboundEmailRepository;
+
 @Service
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final OutboundEmailRepository outboundEmailRepository;
 
-    public EmailService(JavaMailSender mailSender) {
-        this.mailSender = mailSender;
+    public EmailService(OutboundEmailRepository outboundEmailRepository) {
+        this.outboundEmailRepository = outboundEmailRepository;
     }
 
+    // Queues the message in the outbox; it is sent in the background by EmailOutboxDispatcher.
+    // Joins the caller's transaction, so the email only goes out if the caller commits.
     public void sendEmail(String to, String subject, String text) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(text);
-        mailSender.send(message);
+        outboundEmailRepository.save(new OutboundEmail(to, subject, text));
     }
 }
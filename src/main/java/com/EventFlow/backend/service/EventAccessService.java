@@ -0,0 +1,82 @@
+package com.EventFlow.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.EventFlow.backend.model.EventAccess;
+import com.EventFlow.backend.model.InvitationStatus;
+import com.EventFlow.backend.repository.EventRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// Answers "what is this user to this event" (owner / invited / accepted / declined / none) from one query, cached per
+// (userId, eventId). Entries are dropped after the commit of every invitation change and event deletion on this
+// instance; the TTL bounds how long changes made through other instances can go unnoticed.
+@Service
+public class EventAccessService {
+
+    private final EventRepository eventRepository;
+    private final Cache<AccessKey, EventAccess> cache;
+
+    record AccessKey(long userId, long eventId) {
+    }
+
+    public EventAccessService(EventRepository eventRepository,
+                              @Value("${eventflow.event-access-cache.max-size:50000}") long maxSize,
+                              @Value("${eventflow.event-access-cache.ttl:5m}") Duration ttl) {
+        this.eventRepository = eventRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats() // hit / miss / eviction counters
+                .build();
+    }
+
+    // Empty when the event does not exist (not cached, so an event created later is found on the next lookup)
+    public Optional<EventAccess> getAccess(Long userId, Long eventId) {
+        return Optional.ofNullable(cache.get(new AccessKey(userId, eventId), key -> load(key.userId(), key.eventId())));
+    }
+
+    private EventAccess load(long userId, long eventId) {
+        List<Object[]> rows = eventRepository.findAccessRow(eventId, userId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        if (((Number) row[0]).longValue() > 0) {
+            return EventAccess.OWNER;
+        }
+        InvitationStatus status = (InvitationStatus) row[1];
+        if (status == null) {
+            return EventAccess.NONE;
+        }
+        return switch (status) {
+            case INVITED -> EventAccess.INVITED;
+            case ACCEPTED -> EventAccess.ACCEPTED;
+            case DECLINED -> EventAccess.DECLINED;
+        };
+    }
+
+    // Invitation of the user to the event created, answered or removed
+    public void invalidate(Long userId, Long eventId) {
+        AccessKey key = new AccessKey(userId, eventId);
+        AfterCommit.run(() -> cache.invalidate(key));
+    }
+
+    // Events deleted: drops every user's entry for them
+    public void invalidateEvents(Collection<Long> eventIds) {
+        Set<Long> deleted = Set.copyOf(eventIds);
+        AfterCommit.run(() -> cache.asMap().keySet().removeIf(key -> deleted.contains(key.eventId())));
+    }
+
+    public Cache<?, ?> getNativeCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,40 @@
+package com.EventFlow.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import com.EventFlow.backend.repository.EventRepository;
+
+// ddl-auto=update cannot declare the generated tsvector column, GIN indexes or GiST expression index used by event
+// search and calendar range queries; they come from the one-off migrations db/event-search.sql and
+// db/event-range.sql, which the application never runs itself. Reports at startup which query paths are in use, so a
+// database that still needs a migration shows up in the logs.
+@Component
+public class EventIndexCheck implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(EventIndexCheck.class);
+
+    private final EventRepository eventRepository;
+
+    public EventIndexCheck(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (eventRepository.hasSearchIndex()) {
+            log.info("Event full-text search index ready");
+        } else {
+            log.warn("Event full-text search index missing: search falls back to substring matching. On PostgreSQL, "
+                    + "run db/event-search.sql once and restart");
+        }
+        if (eventRepository.hasRangeIndex()) {
+            log.info("Event range index ready");
+        } else {
+            log.warn("Event range index missing: range queries get slower the later their window lies. On PostgreSQL, "
+                    + "run db/event-range.sql once and restart");
+        }
+    }
+}
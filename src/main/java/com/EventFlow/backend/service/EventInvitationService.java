@@ -1,22 +1,42 @@
 package com.EventFlow.backend.service;
 
+import jakarta.annotation.PostConstruct;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.EventFlow.backend.dto.ActivityDTO;
+import com.EventFlow.backend.dto.BulkInviteResultDTO;
+import com.EventFlow.backend.dto.CursorPageDTO;
 import com.EventFlow.backend.dto.EventCommentDTO;
 import com.EventFlow.backend.dto.EventDTO;
 import com.EventFlow.backend.dto.InvitedEventDTO;
+import com.EventFlow.backend.dto.PendingCommentDTO;
 import com.EventFlow.backend.dto.UserDTO;
 import com.EventFlow.backend.model.*;
 import com.EventFlow.backend.repository.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
-public class EventInvitationService {
+public class EventInvitationService implements CommentIngestQueue.Listener {
+
+    // event_comments.content is a VARCHAR(255)
+    static final int MAX_COMMENT_LENGTH = 255;
+
+    // Bounds used as the cursor of a feed's first page (valid timestamps on every supported database)
+    private static final LocalDateTime FIRST_COMMENT_TIME = LocalDateTime.of(1, 1, 1, 0, 0);
+    private static final LocalDateTime LAST_COMMENT_TIME = LocalDateTime.of(9999, 12, 31, 23, 59);
 
     @Autowired private EventRepository eventRepository;
     @Autowired private UserService userService;
@@ -26,28 +46,18 @@ public class EventInvitationService {
     @Autowired private ContactRepository contactRepository;
     @Autowired private UserEventRepository userEventRepository;
     @Autowired private EventCommentRepository eventCommentRepository;
+    @Autowired private ActivityBus activityBus;
+    @Autowired private EventAccessService eventAccessService;
+    @Autowired private CommentIngestQueue commentIngestQueue;
+
+    @PostConstruct
+    void registerCommentListener() {
+        commentIngestQueue.addListener(this);
+    }
 
     public List<InvitedEventDTO> getInvitedEvents() {
         User user = userService.getAuthenticatedUser();
-        return eventInvitationRepository.findByContact(user)
-                .stream()
-                .filter(invitedEvent -> invitedEvent.getStatus() == InvitationStatus.ACCEPTED)
-                .map(invitedEvent -> {
-                    // Find the UserEvent for the owner and the invited event to get hierarchy
-                    UserEvent userEvent = userEventRepository.findByUserAndEvent(invitedEvent.getOwner(), invitedEvent.getEvent())
-                            .orElseThrow(() -> new RuntimeException("UserEvent not found for owner and event"));
-
-                    // Pass both Event and UserEvent to EventDTO constructor
-                    EventDTO eventDTO = new EventDTO(invitedEvent.getEvent(), userEvent);
-
-                    return new InvitedEventDTO(
-                            eventDTO,
-                            invitedEvent.getOwner().getEmail(),
-                            invitedEvent.getOwner().getId(),
-                            invitedEvent.getStatus()
-                    );
-                })
-                .collect(Collectors.toList());
+        return toInvitedEventDTOs(eventInvitationRepository.findWithEventAndOwnerByContactAndStatus(user, InvitationStatus.ACCEPTED));
     }
 
     public InvitedEventDTO getInvitedEventById(Long eventId) {
@@ -78,20 +88,7 @@ public class EventInvitationService {
         User owner = userRepository.findById(ownerId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<InvitedEvent> invitedEvents = eventInvitationRepository.findByOwnerAndContact(owner, contact);
-
-        return invitedEvents.stream()
-                .map(invitedEvent -> {
-                    UserEvent userEvent = userEventRepository.findByUserAndEvent(owner, invitedEvent.getEvent())
-                            .orElseThrow(() -> new RuntimeException("UserEvent not found for owner and event"));
-                    return new InvitedEventDTO(
-                            new EventDTO(invitedEvent.getEvent(), userEvent),
-                            invitedEvent.getOwner().getEmail(),
-                            invitedEvent.getOwner().getId(),
-                            invitedEvent.getStatus()
-                    );
-                })
-                .collect(Collectors.toList());
+        return toInvitedEventDTOs(eventInvitationRepository.findWithEventAndOwnerByOwnerAndContact(owner, contact));
     }
 
 
@@ -147,8 +144,10 @@ public class EventInvitationService {
 
         if (owner.getId().equals(contactId)) throw new RuntimeException("Cannot invite yourself");
 
-        boolean areContacts = contactRepository.findBySenderAndContact(owner, contact).filter(Contact::isContactAccepted).isPresent()
-                || contactRepository.findBySenderAndContact(contact, owner).filter(Contact::isContactAccepted).isPresent();
+        // Authorization reads the table, never the cached ContactGraph, so a removed friend cannot still be invited
+        boolean areContacts = contactRepository.findBetween(owner.getId(), contact.getId())
+                .map(Contact::isContactAccepted)
+                .orElse(false);
 
         if (!areContacts) {
             throw new RuntimeException("You can only invite your friends to events");
@@ -163,7 +162,56 @@ public class EventInvitationService {
         invitedEvent.setContact(contact);
         invitedEvent.setStatus(InvitationStatus.INVITED);
         eventInvitationRepository.save(invitedEvent);
+        eventAccessService.invalidate(contactId, eventId);
+
+        publishInvitation(ActivityDTO.Type.INVITATION_RECEIVED, eventId, owner.getId(), contactId);
     }
+
+    // Invites many contacts at once: one friendship query, one duplicate query and one batch insert,
+    // whatever the number of contacts. Ids that are not friends or are already invited are reported, not fatal.
+    @Transactional
+    public BulkInviteResultDTO inviteEventBulk(Long eventId, List<Long> contactIds) {
+        User owner = userService.getAuthenticatedUser();
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+
+        userEventRepository.findByUserAndEventAndHierarchy(owner, event, 1)
+                .orElseThrow(() -> new RuntimeException("Users can only be invited to main events."));
+
+        Set<Long> candidates = new LinkedHashSet<>(contactIds);
+        candidates.remove(null);
+        if (candidates.contains(owner.getId())) throw new RuntimeException("Cannot invite yourself");
+
+        Set<Long> friends = candidates.isEmpty()
+                ? Set.of()
+                : new HashSet<>(contactRepository.findAcceptedContactIdsAmong(owner.getId(), candidates));
+        Set<Long> alreadyInvited = friends.isEmpty()
+                ? Set.of()
+                : new HashSet<>(eventInvitationRepository.findInvitedContactIds(eventId, friends));
+
+        List<Long> invited = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        List<Long> notContacts = new ArrayList<>();
+        for (Long contactId : candidates) {
+            if (!friends.contains(contactId)) {
+                notContacts.add(contactId);
+            } else if (alreadyInvited.contains(contactId)) {
+                skipped.add(contactId);
+            } else {
+                invited.add(contactId);
+            }
+        }
+
+        if (!invited.isEmpty()) {
+            eventInvitationRepository.insertInvitations(eventId, owner.getId(), invited);
+            for (Long contactId : invited) {
+                eventAccessService.invalidate(contactId, eventId);
+                publishInvitation(ActivityDTO.Type.INVITATION_RECEIVED, eventId, owner.getId(), contactId);
+            }
+        }
+        return new BulkInviteResultDTO(invited, skipped, notContacts);
+    }
+
     public void acceptInvitation(Long eventId) {
         User user = userService.getAuthenticatedUser();
         InvitedEvent invitedEvent = eventInvitationRepository.findByEventAndContact(eventRepository.findById(eventId)
@@ -172,6 +220,9 @@ public class EventInvitationService {
 
         invitedEvent.setStatus(InvitationStatus.ACCEPTED);
         eventInvitationRepository.save(invitedEvent);
+        eventAccessService.invalidate(user.getId(), eventId);
+
+        publishInvitation(ActivityDTO.Type.INVITATION_ACCEPTED, eventId, invitedEvent.getOwner().getId(), user.getId());
     }
 
     public void declineInvitation(Long eventId) {
@@ -181,6 +232,9 @@ public class EventInvitationService {
                 .orElseThrow(() -> new RuntimeException("Invitation not found"));
 
         eventInvitationRepository.delete(invitedEvent);
+        eventAccessService.invalidate(user.getId(), eventId);
+
+        publishInvitation(ActivityDTO.Type.INVITATION_DECLINED, eventId, invitedEvent.getOwner().getId(), user.getId());
     }
 
     public void unInviteEvent(Long eventId, Long contactId) {
@@ -194,62 +248,108 @@ public class EventInvitationService {
                 .orElseThrow(() -> new RuntimeException("This friend has not been invited to the event "));
 
         eventInvitationRepository.delete(invitedEvent);
+        eventAccessService.invalidate(contactId, eventId);
+
+        publishInvitation(ActivityDTO.Type.INVITATION_REVOKED, eventId, owner.getId(), contactId);
     }
     
  //  method to get pending invitations:
     public List<InvitedEventDTO> getPendingInvitations() {
         User user = userService.getAuthenticatedUser();
-        return eventInvitationRepository.findByContact(user).stream()
-            .filter(invited -> invited.getStatus() == InvitationStatus.INVITED)
-            .map(invited -> {
-                UserEvent userEvent = userEventRepository.findByUserAndEvent(invited.getOwner(), invited.getEvent())
-                    .orElseThrow(() -> new RuntimeException("UserEvent not found"));
-                return new InvitedEventDTO(
-                    new EventDTO(invited.getEvent(), userEvent),
-                    invited.getOwner().getEmail(),
-                    invited.getOwner().getId(),
-                    invited.getStatus()
-                );
-            })
-            .collect(Collectors.toList());
+        return toInvitedEventDTOs(eventInvitationRepository.findWithEventAndOwnerByContactAndStatus(user, InvitationStatus.INVITED));
     }
 
-    public void addComment(Long eventId, String text) {
-        User user = userService.getAuthenticatedUser();
-        Event event = eventRepository.findById(eventId).orElseThrow(() -> new RuntimeException("Event not found!"));
+    // Builds the DTOs for invitations loaded with their event and owner.
+    // The owners' UserEvent rows (for the hierarchy) are fetched with one IN query instead of one query per invitation.
+    private List<InvitedEventDTO> toInvitedEventDTOs(List<InvitedEvent> invitedEvents) {
+        if (invitedEvents.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        boolean hasAccess = userEventRepository.findByUserAndEvent(user, event).isPresent() ||
-                eventInvitationRepository.findByEventAndContact(event, user).isPresent();
+        Set<Long> ownerIds = invitedEvents.stream().map(invited -> invited.getOwner().getId()).collect(Collectors.toSet());
+        Set<Long> eventIds = invitedEvents.stream().map(invited -> invited.getEvent().getId()).collect(Collectors.toSet());
+
+        // Keyed by (userId, eventId)
+        Map<List<Long>, UserEvent> userEvents = userEventRepository.findByUserIdInAndEventIdIn(ownerIds, eventIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        userEvent -> List.of(userEvent.getUser().getId(), userEvent.getEvent().getId()),
+                        userEvent -> userEvent,
+                        (first, second) -> first));
+
+        return invitedEvents.stream()
+                .map(invited -> {
+                    UserEvent userEvent = userEvents.get(List.of(invited.getOwner().getId(), invited.getEvent().getId()));
+                    if (userEvent == null) {
+                        throw new RuntimeException("UserEvent not found for owner and event");
+                    }
+                    return new InvitedEventDTO(
+                            new EventDTO(invited.getEvent(), userEvent),
+                            invited.getOwner().getEmail(),
+                            invited.getOwner().getId(),
+                            invited.getStatus()
+                    );
+                })
+                .collect(Collectors.toList());
+    }
 
-        if (!hasAccess) throw new RuntimeException("You do not have access to comment on this event!");
+    // Validates the comment now and hands it to the ingest queue, which writes it within a few ms (batched with
+    // other comments). Throws IngestQueueFullException when the queue is at capacity.
+    public void addComment(Long eventId, String text) {
+        User user = userService.getAuthenticatedUser();
+        if (text == null || text.isBlank()) throw new RuntimeException("Comment cannot be empty!");
+        if (text.length() > MAX_COMMENT_LENGTH) throw new RuntimeException("Comment cannot exceed " + MAX_COMMENT_LENGTH + " characters!");
+        checkCommentAccess(user, eventId, "You do not have access to comment on this event!");
 
-        EventComment comment = new EventComment();
-        comment.setEvent(event);
-        comment.setAuthor(user);
-        comment.setContent(text);
-        comment.setCreatedAt(LocalDateTime.now());
+        commentIngestQueue.submit(new PendingCommentDTO(eventId, user.getId(), user.getEmail(), text, LocalDateTime.now()));
+    }
 
-        eventCommentRepository.save(comment);
+    // Comments written by the ingest queue: one audience lookup per event and flush
+    @Override
+    public void commentsStored(Long eventId, List<EventCommentDTO> comments) {
+        if (!activityBus.hasSubscribers()) {
+            return;
+        }
+        Set<Long> audience = commentAudience(eventId);
+        for (EventCommentDTO comment : comments) {
+            activityBus.publish(audience, new ActivityDTO(ActivityDTO.Type.COMMENT_ADDED, eventId, comment));
+        }
     }
 
     public List<EventCommentDTO> getComments(Long eventId) {
         User user = userService.getAuthenticatedUser();
-        Event event = eventRepository.findById(eventId).orElseThrow(() -> new RuntimeException("Event not found!"));
+        checkCommentAccess(user, eventId, "You do not have access to view comments!");
 
-        boolean hasAccess = userEventRepository.findByUserAndEvent(user, event).isPresent() ||
-                eventInvitationRepository.findByEventAndContact(event, user).isPresent();
+        // Author email comes from the same query instead of one lazy load per comment
+        return eventCommentRepository.findCommentDTOsByEventId(eventId);
+    }
 
-        if (!hasAccess) throw new RuntimeException("You do not have access to view comments!");
+    // Keyset-paginated comment feed, cursor positioned on (createdAt, id), oldest or newest first
+    public CursorPageDTO<EventCommentDTO> getComments(Long eventId, String cursor, int limit, boolean newestFirst) {
+        CursorPageDTO.checkLimit(limit);
+        User user = userService.getAuthenticatedUser();
+        checkCommentAccess(user, eventId, "You do not have access to view comments!");
+
+        // Fetch one extra row to know whether another page exists
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<EventCommentDTO> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = newestFirst
+                    ? eventCommentRepository.findCommentPageDesc(eventId, LAST_COMMENT_TIME, Long.MAX_VALUE, page)
+                    : eventCommentRepository.findCommentPageAsc(eventId, FIRST_COMMENT_TIME, Long.MIN_VALUE, page);
+        } else {
+            CursorPageDTO.TimeCursor position = CursorPageDTO.decodeTimeCursor(cursor);
+            rows = newestFirst
+                    ? eventCommentRepository.findCommentPageDesc(eventId, position.createdAt(), position.id(), page)
+                    : eventCommentRepository.findCommentPageAsc(eventId, position.createdAt(), position.id(), page);
+        }
 
-        return eventCommentRepository.findByEventOrderByCreatedAtAsc(event)
-                .stream()
-                .map(comment -> new EventCommentDTO(
-                		comment.getId(),
-                        comment.getAuthor().getEmail(),
-                        comment.getCreatedAt(),
-                        comment.getContent()
-                ))
-                .collect(Collectors.toList());
+        if (rows.size() <= limit) {
+            return new CursorPageDTO<>(rows, null);
+        }
+        List<EventCommentDTO> comments = rows.subList(0, limit);
+        EventCommentDTO last = comments.get(limit - 1);
+        return new CursorPageDTO<>(comments, CursorPageDTO.encodeCursor(last.getCreatedAt(), last.getId()));
     }
 
     public void deleteComment(Long commentId) {
@@ -268,6 +368,8 @@ public class EventInvitationService {
         }
 
         eventCommentRepository.delete(comment);
+
+        publishComment(ActivityDTO.Type.COMMENT_DELETED, event.getId(), Map.of("id", commentId));
     }
 
     
@@ -277,5 +379,35 @@ public class EventInvitationService {
                 .orElseThrow(() -> new RuntimeException("You can only update your own comments"));
         comment.setContent(newText);
         eventCommentRepository.save(comment);
+
+        publishComment(ActivityDTO.Type.COMMENT_UPDATED, comment.getEvent().getId(),
+                new EventCommentDTO(comment.getId(), user.getEmail(), comment.getCreatedAt(), comment.getContent()));
+    }
+
+    // Comment activity goes to everyone who can see the event's comments: its users and invited contacts
+    private void publishComment(ActivityDTO.Type type, Long eventId, Object data) {
+        if (!activityBus.hasSubscribers()) {
+            return;
+        }
+        activityBus.publish(commentAudience(eventId), new ActivityDTO(type, eventId, data));
+    }
+
+    private Set<Long> commentAudience(Long eventId) {
+        Set<Long> audience = new HashSet<>(userEventRepository.findUserIdsByEventId(eventId));
+        audience.addAll(eventInvitationRepository.findContactIdsByEventId(eventId));
+        return audience;
+    }
+
+    // Owner or invited contact, answered from the access cache instead of two lookups per comment request
+    private void checkCommentAccess(User user, Long eventId, String deniedMessage) {
+        EventAccess access = eventAccessService.getAccess(user.getId(), eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found!"));
+        if (!access.canComment()) throw new RuntimeException(deniedMessage);
+    }
+
+    // Invitation activity goes to the inviting owner and the invited contact
+    private void publishInvitation(ActivityDTO.Type type, Long eventId, Long ownerId, Long contactId) {
+        activityBus.publish(List.of(ownerId, contactId),
+                new ActivityDTO(type, eventId, Map.of("ownerId", ownerId, "contactId", contactId)));
     }
 }
@@ -1,35 +1,64 @@
 package com.EventFlow.backend.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.EventFlow.backend.dto.CreateEventBatchDTO;
+import com.EventFlow.backend.dto.CreateEventDTO;
+import com.EventFlow.backend.dto.CursorPageDTO;
 import com.EventFlow.backend.dto.EventDTO;
+import com.EventFlow.backend.dto.EventRangeDTO;
+import com.EventFlow.backend.dto.EventSearchHitDTO;
+import com.EventFlow.backend.dto.EventTreeDTO;
+import com.EventFlow.backend.dto.InvitedEventDTO;
 import com.EventFlow.backend.dto.AgendaItemDTO;
 import com.EventFlow.backend.dto.UpdateEventDTO;
 import com.EventFlow.backend.model.*;
 import com.EventFlow.backend.repository.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class EventService {
+
+    // Longest window accepted by getEventsInRange
+    static final Duration MAX_RANGE = Duration.ofDays(366);
+    static final int MAX_SEARCH_QUERY_LENGTH = 200;
     
     private final EventRepository eventRepository;
     private final UserEventRepository userEventRepository;
     private final AgendaItemRepository agendaItemRepository;
+    private final EventInvitationRepository eventInvitationRepository;
+    private final EventCommentRepository eventCommentRepository;
     private final UserService userService;
+    private final EventAccessService eventAccessService;
 
     @Autowired
     public EventService(EventRepository eventRepository, UserEventRepository userEventRepository, 
-                        AgendaItemRepository agendaItemRepository, UserService userService) {
+                        AgendaItemRepository agendaItemRepository, EventInvitationRepository eventInvitationRepository,
+                        EventCommentRepository eventCommentRepository, UserService userService,
+                        EventAccessService eventAccessService) {
         this.eventRepository = eventRepository;
         this.userEventRepository = userEventRepository;
         this.agendaItemRepository = agendaItemRepository;
+        this.eventInvitationRepository = eventInvitationRepository;
+        this.eventCommentRepository = eventCommentRepository;
         this.userService = userService;
+        this.eventAccessService = eventAccessService;
     }
 
     // Create a new event (hierarchy 1)
@@ -47,6 +76,30 @@ public class EventService {
         return event;
     }
 
+    // Creates a main event with all its sub-events in one transaction: one JDBC batch per table instead of
+    // three single-row INSERTs per event
+    @Transactional
+    public EventTreeDTO createEventWithSubEvents(CreateEventBatchDTO batch) {
+        User user = userService.getAuthenticatedUser();
+
+        Event mainEvent = toEvent(batch.getEvent());
+        List<Event> subEvents = batch.getSubEvents().stream().map(EventService::toEvent).collect(Collectors.toList());
+        eventRepository.insertEventTree(user.getId(), mainEvent, subEvents);
+
+        List<AgendaItemDTO> subEventDTOs = subEvents.stream()
+                .sorted(Comparator.comparingInt(Event::getEventOrder).thenComparing(Event::getId))
+                .map(AgendaItemDTO::new)
+                .collect(Collectors.toList());
+        return new EventTreeDTO(new EventDTO(mainEvent.getId(), mainEvent.getDescription(), mainEvent.getImportanceLevel(),
+                mainEvent.getLocation(), mainEvent.getType(), mainEvent.getStartDate(), mainEvent.getDueDate(),
+                mainEvent.isDone(), mainEvent.getEventOrder(), 1), subEventDTOs);
+    }
+
+    private static Event toEvent(CreateEventDTO dto) {
+        return new Event(dto.getDescription(), dto.getImportanceLevel(), dto.getLocation(), dto.getType(),
+                dto.getStartDate(), dto.getDueDate(), dto.getOrder());
+    }
+
     // Add a sub-event (hierarchy 2)
     public Event addAgendaItem(Long mainEventId, String description, int importanceLevel, String location, String type, LocalDateTime startDate, LocalDateTime dueDate, int subOrder) {
     	User user = userService.getAuthenticatedUser();
@@ -70,58 +123,90 @@ public class EventService {
         return itemAgenda;
     }
 
- // Modify an event's completion status (done/not done)
+    // Modify an event's completion status (done/not done): one conditional UPDATE that also checks ownership
+    @Transactional
     public void updateEventStatus(Long eventId, boolean isDone) {
         User user = userService.getAuthenticatedUser();
-        Event eventToUpdated = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found!"));
-    	UserEvent userEvent = userEventRepository.findByUserAndEvent(user, eventToUpdated)
-            .orElseThrow(() -> new RuntimeException("Event not assigned to user!"));
+        if (eventRepository.updateDoneIfOwned(eventId, user.getId(), isDone) == 0) {
+            throw notUpdatable(eventId);
+        }
+    }
 
+    // Applies the non-null fields of updateData with one conditional UPDATE that also checks ownership
+    @Transactional
+    public void updateEvent(Long eventId, UpdateEventDTO updateData) {
+        User user = userService.getAuthenticatedUser();
+        if (eventRepository.updateFieldsIfOwned(eventId, user.getId(), updateData) > 0) {
+            return;
+        }
+        // Nothing written: either nothing to change, or the event is missing / not the user's
+        if (!userEventRepository.existsByUserAndEventId(user, eventId)) {
+            throw notUpdatable(eventId);
+        }
+    }
 
-        eventToUpdated.setDone(isDone);
-        eventRepository.save(eventToUpdated);
+    // Only reached when an update matched no row, so the extra lookup stays off the common path
+    private RuntimeException notUpdatable(Long eventId) {
+        return eventRepository.existsById(eventId)
+                ? new RuntimeException("Event not assigned to user!")
+                : new RuntimeException("Event not found!");
     }
 
-    public void updateEvent(Long eventId, UpdateEventDTO updateData) {
+    // Reorders the user's main events: the listed events take the positions they currently occupy, in list order,
+    // while unlisted events keep theirs; then all of them are renumbered 1..n, so a partial list never leaves
+    // duplicate orders. A complete list gives eventIds[i] the order i + 1.
+    @Transactional
+    public int reorderEvents(List<Long> eventIds) {
         User user = userService.getAuthenticatedUser();
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found!"));
+        checkDistinct(eventIds);
 
-        // Ensure the user owns the event
-        UserEvent userEvent = userEventRepository.findByUserAndEvent(user, event)
-                .orElseThrow(() -> new RuntimeException("Event not assigned to user!"));
+        List<Object[]> siblings = userEventRepository.findEventOrders(user, 1);
+        return applyOrder(eventIds, siblings, "All events must be main events owned by the user!");
+    }
 
-        // Update fields if provided
-        if (updateData.getDescription() != null) {
-            event.setDescription(updateData.getDescription());
-        }
-        if (updateData.getImportanceLevel() != null) {
-            event.setImportanceLevel(updateData.getImportanceLevel());
-        }
-        if (updateData.getLocation() != null) {
-            event.setLocation(updateData.getLocation());
+    // Reorders the sub events of a main event the user owns, same rules as reorderEvents
+    @Transactional
+    public int reorderAgendaItems(Long mainEventId, List<Long> subEventIds) {
+        User user = userService.getAuthenticatedUser();
+        checkDistinct(subEventIds);
+
+        if (!userEventRepository.existsByUserAndEventIdAndHierarchy(user, mainEventId, 1)) {
+            throw new RuntimeException("Event not assigned to user or it's not a main Event!");
         }
-        if (updateData.getType() != null) {
-            event.setType(updateData.getType());
+        List<Object[]> siblings = agendaItemRepository.findSubEventOrders(mainEventId);
+        return applyOrder(subEventIds, siblings, "All events must be sub events of this main event!");
+    }
+
+    private static void checkDistinct(List<Long> eventIds) {
+        Set<Long> distinct = new HashSet<>(eventIds);
+        if (distinct.contains(null) || distinct.size() != eventIds.size()) {
+            throw new RuntimeException("Event ids must be distinct");
         }
-        
-        if (updateData.getStartDate() != null) {
-            event.setStartDate(updateData.getStartDate());
+    }
+
+    // siblings are all {eventId, eventOrder} rows in display order. Only rows whose order actually changes are
+    // written, all in one UPDATE; returns how many changed
+    private int applyOrder(List<Long> eventIds, List<Object[]> siblings, String notSiblingMessage) {
+        Map<Long, Integer> current = new HashMap<>();
+        for (Object[] row : siblings) {
+            current.put((Long) row[0], (Integer) row[1]);
         }
-        if (updateData.getDueDate() != null) {
-            event.setDueDate(updateData.getDueDate());
+        if (!current.keySet().containsAll(eventIds)) {
+            throw new RuntimeException(notSiblingMessage);
         }
 
-        if (updateData.getIsDone() != null) {
-            event.setDone(updateData.getIsDone());
+        Set<Long> listed = new HashSet<>(eventIds);
+        Iterator<Long> reordered = eventIds.iterator();
+        Map<Long, Integer> changed = new LinkedHashMap<>();
+        for (int i = 0; i < siblings.size(); i++) {
+            Long siblingId = (Long) siblings.get(i)[0];
+            Long eventId = listed.contains(siblingId) ? reordered.next() : siblingId;
+            if (current.get(eventId) != i + 1) {
+                changed.put(eventId, i + 1);
+            }
         }
-        
-        if (updateData.getEventOrder() != null) {
-            event.setEventOrder(updateData.getEventOrder());
-        }        
-        eventRepository.save(event);
-
+        eventRepository.updateEventOrders(changed);
+        return changed.size();
     }
 
     public EventDTO getMyEvent(Long eventId) {
@@ -139,14 +224,77 @@ public class EventService {
     
     public List<EventDTO> getUserEvents(boolean filterUnfinished) {
         User user = userService.getAuthenticatedUser();
-        List<UserEvent> userEvents = userEventRepository.findByUserAndHierarchy(user, 1);
 
-        // Filter if needed, and then sort by eventOrder (ascending)
-        return userEvents.stream()
-                .map(userEvent -> new EventDTO(userEvent.getEvent(), userEvent))  // Create DTO with event and userEvent
-                .filter(eventDTO -> !filterUnfinished || !eventDTO.isDone()) // If filterUnfinished is true, only include unfinished events
-                .sorted(Comparator.comparingInt(EventDTO::getOrder)) // Sort by event order (ascending)
-                .collect(Collectors.toList());
+        // Main events (hierarchy 1), unfinished filter and eventOrder sort are applied by the query
+        return userEventRepository.findEventDTOsByUserAndHierarchy(user, 1, filterUnfinished);
+    }
+
+    // Keyset-paginated variant of getUserEvents, cursor positioned on (eventOrder, id)
+    public CursorPageDTO<EventDTO> getUserEvents(boolean filterUnfinished, String cursor, int limit) {
+        CursorPageDTO.checkLimit(limit);
+        User user = userService.getAuthenticatedUser();
+        long[] after = CursorPageDTO.decodeCursor(cursor);
+
+        // Fetch one extra row to know whether another page exists
+        List<EventDTO> rows = userEventRepository.findEventDTOPageByUserAndHierarchy(
+                user, 1, filterUnfinished, (int) after[0], after[1], PageRequest.of(0, limit + 1));
+
+        if (rows.size() <= limit) {
+            return new CursorPageDTO<>(rows, null);
+        }
+        List<EventDTO> page = rows.subList(0, limit);
+        EventDTO last = page.get(limit - 1);
+        return new CursorPageDTO<>(page, CursorPageDTO.encodeCursor(last.getOrder(), last.getId()));
+    }
+
+    // Main event and its ordered sub events, loaded and ownership-checked by a single query
+    public EventTreeDTO getEventTree(Long eventId) {
+        User user = userService.getAuthenticatedUser();
+
+        List<Object[]> rows = userEventRepository.findEventTreeRows(user, eventId);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Event not assigned to user or it's not a main Event!");
+        }
+
+        UserEvent userEvent = (UserEvent) rows.get(0)[0];
+        List<AgendaItemDTO> subEvents = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                subEvents.add(new AgendaItemDTO((Event) row[1]));
+            }
+        }
+        return new EventTreeDTO(new EventDTO(userEvent.getEvent(), userEvent), subEvents);
+    }
+
+    // Ranked search over the events the user owns or was invited to, optionally through their comments too
+    public List<EventSearchHitDTO> searchEvents(String query, boolean includeComments, int limit) {
+        String terms = query == null ? "" : query.trim();
+        if (terms.isEmpty()) {
+            throw new RuntimeException("Search query cannot be empty");
+        }
+        if (terms.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new RuntimeException("Search query cannot exceed " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        CursorPageDTO.checkLimit(limit);
+        User user = userService.getAuthenticatedUser();
+        return eventRepository.searchEvents(user.getId(), terms, includeComments, limit);
+    }
+
+    // Main events, sub events and accepted invited events overlapping [from, to)
+    public EventRangeDTO getEventsInRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new RuntimeException("from must be before to");
+        }
+        if (Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            throw new RuntimeException("Range cannot exceed " + MAX_RANGE.toDays() + " days");
+        }
+        User user = userService.getAuthenticatedUser();
+
+        List<EventDTO> events = eventRepository.findEventDTOsByUserInRange(user.getId(), from, to);
+        List<InvitedEventDTO> invitedEvents = eventRepository
+                .findInvitedEventDTOsByContactAndStatusInRange(user.getId(), InvitationStatus.ACCEPTED, from, to);
+
+        return new EventRangeDTO(events, invitedEvents);
     }
 
     public List<AgendaItemDTO> getAgendaItems(Long eventId) {
@@ -166,10 +314,38 @@ public class EventService {
                 .collect(Collectors.toList());
     }
 
+    // Keyset-paginated variant of getAgendaItems, cursor positioned on (subOrder, itemAgendaId)
+    public CursorPageDTO<AgendaItemDTO> getAgendaItems(Long eventId, String cursor, int limit) {
+        CursorPageDTO.checkLimit(limit);
+        User user = userService.getAuthenticatedUser();
+        long[] after = CursorPageDTO.decodeCursor(cursor);
+
+        Event mainEvent = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found!"));
+
+        userEventRepository.findByUserAndEvent(user, mainEvent)
+                .orElseThrow(() -> new RuntimeException("Event not assigned to user!"));
+
+        List<AgendaItemDTO> rows = agendaItemRepository.findPageByMainEvent(
+                        mainEvent, (int) after[0], after[1], PageRequest.of(0, limit + 1))
+                .stream()
+                .map(AgendaItemDTO::new)
+                .collect(Collectors.toList());
+
+        if (rows.size() <= limit) {
+            return new CursorPageDTO<>(rows, null);
+        }
+        List<AgendaItemDTO> page = rows.subList(0, limit);
+        AgendaItemDTO last = page.get(limit - 1);
+        return new CursorPageDTO<>(page, CursorPageDTO.encodeCursor(last.getSubOrder(), last.getItemAgendaId()));
+    }
+
 
 
 
     
+    // Deletes the main event and everything attached to it with set-based DELETEs in one transaction
+    @Transactional
     public void deleteEvent(Long eventId) {
         User user = userService.getAuthenticatedUser();
         Event mainEvent = eventRepository.findById(eventId)
@@ -179,24 +355,17 @@ public class EventService {
         userEventRepository.findByUserAndEventAndHierarchy(user, mainEvent, 1)
                 .orElseThrow(() -> new RuntimeException("Event not assigned to user or it's not a main Event!"));
 
-        // Retrieve all sub events linked to this main event
-        List<AgendaItem> agendaItems = agendaItemRepository.findByMainEvent(mainEvent);
-
-        // Extract sub events and delete them first
-        List<Event> itemAgendas = agendaItems.stream()
-                .map(AgendaItem::getItemAgenda)
-                .collect(Collectors.toList());
-        
-        // Delete sub events from the userEvent table first
-        List<UserEvent> subUserEvents = userEventRepository.findByEventIn(itemAgendas);
-        userEventRepository.deleteAll(subUserEvents);
-        
-        agendaItemRepository.deleteAll(agendaItems); // Delete sub relationships
-        eventRepository.deleteAll(itemAgendas); // Delete sub events
-
-        // Finally, delete the main event
-        userEventRepository.deleteAll(userEventRepository.findByUserAndEvent(user, mainEvent).stream().toList());
-        eventRepository.delete(mainEvent);
+        // Ids of the main event and all its sub events, read before the agenda links are removed
+        List<Long> eventIds = new ArrayList<>(agendaItemRepository.findItemAgendaIdsByMainEventId(eventId));
+        eventIds.add(eventId);
+
+        // Rows referencing the events go first (FK order), then the events themselves
+        eventCommentRepository.deleteByEventIdIn(eventIds);
+        eventInvitationRepository.deleteByEventIdIn(eventIds);
+        userEventRepository.deleteByEventIdIn(eventIds);
+        agendaItemRepository.deleteByMainEventId(eventId);
+        eventRepository.deleteByIdIn(eventIds);
+        eventAccessService.invalidateEvents(eventIds);
     }
 
 
@@ -228,6 +397,7 @@ public class EventService {
 
         // ✅ Delete the sub event itself
         eventRepository.delete(itemAgenda);
+        eventAccessService.invalidateEvents(List.of(itemAgendaId));
     }
     
 }
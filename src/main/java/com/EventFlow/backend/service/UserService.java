@@ -5,6 +5,7 @@ import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.EventFlow.backend.dto.RegisterUserDTO;
 import com.EventFlow.backend.dto.UpdateUserDTO;
@@ -15,9 +16,14 @@ import com.EventFlow.backend.model.User;
 import com.EventFlow.backend.repository.ContactRepository;
 import com.EventFlow.backend.repository.PasswordResetTokenRepository;
 import com.EventFlow.backend.repository.UserRepository;
+import com.EventFlow.backend.security.AuthenticatedUserCache;
+import com.EventFlow.backend.security.AuthenticatedUserToken;
 import com.EventFlow.backend.security.JwtUtil;
 import com.EventFlow.backend.service.EmailService;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Optional;
 import java.util.UUID;
 import java.time.LocalDateTime;
@@ -36,22 +42,30 @@ public class UserService {
     private final EmailService emailService;
     private final BCryptPasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final AuthenticatedUserCache userCache;
+    private final ContactGraph contactGraph;
 
     @Autowired
     public UserService(UserRepository userRepository, ContactRepository contactRepository,PasswordResetTokenRepository passwordResetTokenRepository
-    		, BCryptPasswordEncoder passwordEncoder, JwtUtil jwtUtil, EmailService emailService) {
+    		, BCryptPasswordEncoder passwordEncoder, JwtUtil jwtUtil, EmailService emailService, AuthenticatedUserCache userCache
+    		, ContactGraph contactGraph) {
         this.userRepository = userRepository;
         this.contactRepository = contactRepository;
         this.passwordEncoder = passwordEncoder;
         this.passwordResetTokenRepository = passwordResetTokenRepository;
         this.jwtUtil = jwtUtil;
         this.emailService = emailService;
+        this.userCache = userCache;
+        this.contactGraph = contactGraph;
     }
 
     
     public User getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        System.out.println("Authentication: " + authentication);
+        //  User already resolved by AuthenticatedUserConverter for this request, no query needed
+        if (authentication instanceof AuthenticatedUserToken authenticatedUserToken) {
+            return authenticatedUserToken.getUser();
+        }
         if (authentication != null && authentication.getPrincipal() instanceof Jwt) {
             Jwt jwt = (Jwt) authentication.getPrincipal();
             
@@ -128,6 +142,7 @@ public class UserService {
 
                 //  Save changes & return updated user as DTO
                 User savedUser = userRepository.save(user);
+                userCache.invalidate(savedUser.getId());
                 return new UserDTO(savedUser);
             }).orElseThrow(() -> new RuntimeException("User not found!"));
     }
@@ -136,6 +151,8 @@ public class UserService {
     public void deleteUser() {
     	User currentUser = getAuthenticatedUser();
         userRepository.deleteById(currentUser.getId());
+        userCache.invalidate(currentUser.getId());
+        contactGraph.removeUser(currentUser.getId());
     }
     
     public void deleteContact(Long contactId) {
@@ -146,15 +163,11 @@ public class UserService {
         User contactUser = userRepository.findById(contactId)
                 .orElseThrow(() -> new RuntimeException("Contact user not found"));
 
-        Optional<Contact> contactToBeDeleted = contactRepository.findBySenderAndContact(user, contactUser);
-        Optional<Contact> contactToBeDeleted2 = contactRepository.findBySenderAndContact(contactUser, user);
-
-        if (contactToBeDeleted.isPresent()) {
-            contactRepository.delete(contactToBeDeleted.get());
-        } else if (contactToBeDeleted2.isPresent()) {
-            contactRepository.delete(contactToBeDeleted2.get());
-        } else {
-            throw new RuntimeException("No contact found between the users.");
+        Contact contactToBeDeleted = contactRepository.findBetween(user.getId(), contactUser.getId())
+                .orElseThrow(() -> new RuntimeException("No contact found between the users."));
+        contactRepository.delete(contactToBeDeleted);
+        if (contactToBeDeleted.isContactAccepted()) {
+            contactGraph.removeFriendship(user.getId(), contactUser.getId());
         }
     }
 
@@ -166,7 +179,7 @@ public class UserService {
         User contact = userRepository.findById(contactId)
                 .orElseThrow(() -> new RuntimeException("Contact user not found"));
 
-        if (contactRepository.findBySenderAndContact(user, contact).isPresent() || contactRepository.findBySenderAndContact(contact, user).isPresent()) {
+        if (contactRepository.findBetween(user.getId(), contact.getId()).isPresent()) {
             throw new RuntimeException("Friend request already sent or user is already a contact!");
         }
 
@@ -192,6 +205,7 @@ public class UserService {
         if (accept) {
             friendRequest.setContactAccepted(true);
             contactRepository.save(friendRequest);
+            contactGraph.addFriendship(user.getId(), contact.getId());
         } else {
             contactRepository.delete(friendRequest);
         }
@@ -227,6 +241,9 @@ public class UserService {
 
         // Delete the friend request
         contactRepository.delete(existingRequest.get());
+        if (existingRequest.get().isContactAccepted()) {
+            contactGraph.removeFriendship(user.getId(), contact.getId());
+        }
     }    
     
     //  Get Received Invitations (requests this user received)
@@ -250,17 +267,21 @@ public class UserService {
     public List<UserDTO> getContacts() {
         User user = getAuthenticatedUser(); 
 
-        List<Contact> contactsList = contactRepository.findAcceptedContacts(user);
+        // Ids come from the in-memory contact graph, users are loaded by primary key in one query
+        List<Long> contactIds = Arrays.stream(contactGraph.contactsOf(user.getId())).boxed().collect(Collectors.toList());
+        if (contactIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        return contactsList.stream()
-                .map(contact -> {
-                    User contactUser = contact.getSender().getId().equals(user.getId()) ? contact.getContact() : contact.getSender();
-                    return new UserDTO(contactUser);
-                })
+        return userRepository.findAllById(contactIds).stream()
+                .sorted(Comparator.comparing(User::getId))
+                .map(UserDTO::new)
                 .collect(Collectors.toList());
     }
 
     
+    // The token and its outbox email are committed together; the email itself is sent in the background
+    @Transactional
     public void requestPasswordReset(String email) {
         try {
             User user = userRepository.findByEmail(email)
@@ -268,6 +289,7 @@ public class UserService {
 
             passwordResetTokenRepository.findByUser(user).ifPresent(existing -> {
                 passwordResetTokenRepository.delete(existing);
+                passwordResetTokenRepository.flush(); // user_id is unique: delete before inserting the new token
             });
 
             String token = UUID.randomUUID().toString();
@@ -303,6 +325,7 @@ public class UserService {
         User user = resetToken.getUser();
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        userCache.invalidate(user.getId());
 
         passwordResetTokenRepository.delete(resetToken); // Optional: invalidate token
     }
@@ -0,0 +1,67 @@
+package com.EventFlow.backend.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestQueryCounterTest {
+
+    private static final String SELECT_USER = "select u1_0.id from users u1_0 where u1_0.id=?";
+    private static final String SELECT_EVENT = "select e1_0.id from events e1_0 where e1_0.id=?";
+
+    private RequestQueryCounter counter;
+
+    @AfterEach
+    void tearDown() {
+        counter.stop();
+    }
+
+    @Test
+    void testCountsOnlyBetweenStartAndStop() {
+        counter = new RequestQueryCounter(0, false);
+
+        counter.inspect(SELECT_USER);
+        counter.start();
+        counter.inspect(SELECT_USER);
+        counter.inspect(SELECT_EVENT);
+
+        assertEquals(2, counter.current());
+        assertEquals(2, counter.stop().getCount());
+        assertEquals(0, counter.current());
+    }
+
+    @Test
+    void testReportsMostRepeatedStatement() {
+        counter = new RequestQueryCounter(10, false);
+        counter.start();
+        counter.inspect(SELECT_USER);
+        for (int i = 0; i < 3; i++) {
+            counter.inspect(SELECT_EVENT);
+        }
+
+        assertEquals("x3 " + SELECT_EVENT, counter.stop().mostRepeated());
+    }
+
+    @Test
+    void testFailModeThrowsAboveThreshold() {
+        counter = new RequestQueryCounter(2, true);
+        counter.start();
+        counter.inspect(SELECT_EVENT);
+        counter.inspect(SELECT_EVENT);
+
+        Exception exception = assertThrows(QueryLimitExceededException.class, () -> counter.inspect(SELECT_EVENT));
+
+        assertTrue(exception.getMessage().contains("3 > 2"));
+    }
+
+    @Test
+    void testWarnModeNeverThrows() {
+        counter = new RequestQueryCounter(1, false);
+        counter.start();
+        counter.inspect(SELECT_EVENT);
+        counter.inspect(SELECT_EVENT);
+
+        assertEquals(2, counter.current());
+    }
+}
@@ -0,0 +1,34 @@
+package com.EventFlow.backend.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScrapeTokenAuthorizationManagerTest {
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+
+    @Test
+    void testMatchesOnlyTheConfiguredToken() {
+        ScrapeTokenAuthorizationManager manager = new ScrapeTokenAuthorizationManager("s3cret");
+
+        assertTrue(manager.matches(request("Bearer s3cret")));
+        assertFalse(manager.matches(request("Bearer wrong")));
+        assertFalse(manager.matches(request(null)));
+    }
+
+    @Test
+    void testClosedWithoutToken() {
+        ScrapeTokenAuthorizationManager manager = new ScrapeTokenAuthorizationManager("");
+
+        assertFalse(manager.matches(request("Bearer ")));
+        assertFalse(manager.matches(request(null)));
+    }
+}
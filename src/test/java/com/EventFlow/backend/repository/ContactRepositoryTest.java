@@ -0,0 +1,87 @@
+package com.EventFlow.backend.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.EventFlow.backend.model.Contact;
+import com.EventFlow.backend.model.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The one-time contact pair backfill (ContactPairBackfill), on rows written before the pair columns existed
+public class ContactRepositoryTest extends EmbeddedPostgresTest {
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private ContactRepository contactRepository;
+
+    private User alice;
+    private User bob;
+    private User carol;
+
+    @BeforeEach
+    void setUp() {
+        alice = user("alice@example.com");
+        bob = user("bob@example.com");
+        carol = user("carol@example.com");
+        entityManager.flush();
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("secret");
+        return entityManager.persist(user);
+    }
+
+    // Inserted without the pair columns, the way rows from before the migration look
+    private long legacyContact(User sender, User contact, boolean accepted) {
+        jdbcTemplate.update("INSERT INTO user_contacts (user_id, contact_id, contact_accepted) VALUES (?, ?, ?)",
+                sender.getId(), contact.getId(), accepted);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM user_contacts", Long.class);
+    }
+
+    private Contact between(User user, User other) {
+        entityManager.clear();
+        return contactRepository.findBetween(user.getId(), other.getId()).orElseThrow();
+    }
+
+    private void backfill() {
+        contactRepository.deleteUnpairedDuplicates();
+        contactRepository.backfillPairs();
+    }
+
+    @Test
+    void testBackfill_AcceptedRowWinsOverOlderPendingRequest() {
+        legacyContact(alice, bob, false);
+        long accepted = legacyContact(bob, alice, true);
+
+        backfill();
+
+        Contact contact = between(alice, bob);
+        assertEquals(accepted, contact.getId());
+        assertTrue(contact.isContactAccepted());
+        assertEquals(List.of(alice.getId()), contactRepository.findAcceptedContactIdsAmong(bob.getId(), List.of(alice.getId())));
+    }
+
+    @Test
+    void testBackfill_OldestRowWinsAmongRowsInTheSameState() {
+        long olderAccepted = legacyContact(alice, bob, true);
+        legacyContact(alice, bob, false);
+        legacyContact(bob, alice, true);
+        long olderPending = legacyContact(carol, alice, false);
+        legacyContact(alice, carol, false);
+
+        backfill();
+
+        assertEquals(olderAccepted, between(alice, bob).getId());
+        assertEquals(olderPending, between(alice, carol).getId());
+        assertFalse(between(alice, carol).isContactAccepted());
+        assertEquals(2L, contactRepository.count());
+    }
+}
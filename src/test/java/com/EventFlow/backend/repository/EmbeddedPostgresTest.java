@@ -0,0 +1,35 @@
+package com.EventFlow.backend.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+
+// Repository tests for PostgreSQL-only SQL run against an embedded PostgreSQL, with the one-off migrations of db/
+// applied once after Hibernate has created the tables, the way a migrated production database looks. Declared once
+// here, so every subclass shares one Spring context and one database; each test runs in a transaction that is
+// rolled back. ddl-auto=create rather than create-drop: dropping at JVM exit races the database's own shutdown.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+abstract class EmbeddedPostgresTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        if (postgres == null) {
+            postgres = EmbeddedPostgres.start();
+        }
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+        registry.add("spring.jpa.defer-datasource-initialization", () -> "true");
+        registry.add("spring.sql.init.mode", () -> "always");
+        registry.add("spring.sql.init.data-locations", () -> "classpath:db/event-search.sql,classpath:db/event-range.sql");
+    }
+}
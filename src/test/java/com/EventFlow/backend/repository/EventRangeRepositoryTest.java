@@ -0,0 +1,125 @@
+package com.EventFlow.backend.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.EventFlow.backend.dto.EventDTO;
+import com.EventFlow.backend.dto.InvitedEventDTO;
+import com.EventFlow.backend.model.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Range queries use a PostgreSQL-only GiST index (db/event-range.sql), and are also checked against the same
+// database without it (the btree fallback)
+public class EventRangeRepositoryTest extends EmbeddedPostgresTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 6, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(7);
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private User friend;
+    private Event yearLong;
+    private Event inWindow;
+    private Event endsAtFrom;
+    private Event startsAtTo;
+    private Event instant;
+    private Event subEvent;
+    private Event accepted;
+    private Event pending;
+
+    @BeforeEach
+    void setUp() {
+        user = user("user@example.com");
+        friend = user("friend@example.com");
+
+        // Started long before the window and still running: must not be hidden however long it is
+        yearLong = event(user, "Sabbatical", FROM.minusMonths(6), FROM.plusMonths(6), 1);
+        inWindow = event(user, "Offsite", FROM.plusDays(2), FROM.plusDays(3), 1);
+        subEvent = event(user, "Offsite dinner", FROM.plusDays(2).plusHours(19), FROM.plusDays(2).plusHours(22), 2);
+        instant = event(user, "Reminder", FROM.plusDays(4), FROM.plusDays(4), 1);
+        // [from, to) is half-open: touching either end is not an overlap
+        endsAtFrom = event(user, "Before", FROM.minusDays(1), FROM, 1);
+        startsAtTo = event(user, "After", TO, TO.plusDays(1), 1);
+        event(friend, "Friend's own", FROM.plusDays(1), FROM.plusDays(2), 1);
+
+        accepted = event(friend, "Conference", FROM.minusDays(40), FROM.plusDays(1), 1);
+        pending = event(friend, "Party", FROM.plusDays(5), FROM.plusDays(6), 1);
+        entityManager.persist(new InvitedEvent(null, accepted, friend, user, InvitationStatus.ACCEPTED));
+        entityManager.persist(new InvitedEvent(null, pending, friend, user, InvitationStatus.INVITED));
+        entityManager.flush();
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("secret");
+        return entityManager.persist(user);
+    }
+
+    private Event event(User owner, String description, LocalDateTime start, LocalDateTime due, int hierarchy) {
+        Event event = entityManager.persist(new Event(description, 1, "Berlin", "work", start, due, 1));
+        entityManager.persist(new UserEvent(null, owner, event, hierarchy));
+        return event;
+    }
+
+    private EventRangeRepositoryImpl migrated() {
+        EventRangeRepositoryImpl repository = new EventRangeRepositoryImpl(jdbcTemplate);
+        assertTrue(repository.hasRangeIndex());
+        return repository;
+    }
+
+    private static List<Long> ids(List<EventDTO> events) {
+        return events.stream().map(EventDTO::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    void testEventsInRange_EveryOverlappingEventWhateverItsLength() {
+        List<EventDTO> events = migrated().findEventDTOsByUserInRange(user.getId(), FROM, TO);
+
+        assertEquals(List.of(yearLong.getId(), inWindow.getId(), subEvent.getId(), instant.getId()), ids(events));
+        assertEquals(2, events.get(2).getHierarchy());
+        assertFalse(ids(events).contains(endsAtFrom.getId()));
+        assertFalse(ids(events).contains(startsAtTo.getId()));
+    }
+
+    @Test
+    void testInvitedEventsInRange_OnlyTheRequestedStatus() {
+        List<InvitedEventDTO> invited = migrated()
+                .findInvitedEventDTOsByContactAndStatusInRange(user.getId(), InvitationStatus.ACCEPTED, FROM, TO);
+
+        assertEquals(1, invited.size());
+        assertEquals(accepted.getId(), invited.get(0).getEvent().getId());
+        assertEquals(1, invited.get(0).getEvent().getHierarchy());
+        assertEquals("friend@example.com", invited.get(0).getOwnerEmail());
+        assertEquals(friend.getId(), invited.get(0).getOwnerID());
+    }
+
+    @Test
+    void testRange_IndexAndFallbackAgree() {
+        EventRangeRepositoryImpl indexed = migrated();
+        // Dropped in this test's transaction only, like a database that has not run the migration yet
+        jdbcTemplate.execute("DROP INDEX idx_events_period");
+        EventRangeRepositoryImpl fallback = new EventRangeRepositoryImpl(jdbcTemplate);
+        assertFalse(fallback.hasRangeIndex());
+
+        // An event due before its start is still indexable and matched the same way
+        event(user, "Typo", FROM.plusDays(1), FROM.minusDays(1), 1);
+        entityManager.flush();
+
+        for (LocalDateTime from = FROM.minusDays(10); from.isBefore(TO.plusDays(10)); from = from.plusHours(12)) {
+            LocalDateTime to = from.plusDays(1);
+            assertEquals(ids(fallback.findEventDTOsByUserInRange(user.getId(), from, to)),
+                         ids(indexed.findEventDTOsByUserInRange(user.getId(), from, to)), "window from " + from);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.EventFlow.backend.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.EventFlow.backend.dto.EventSearchHitDTO;
+import com.EventFlow.backend.model.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Full-text search runs PostgreSQL-only SQL, so it is checked against an embedded PostgreSQL with
+// db/event-search.sql applied, the way a migrated production database looks
+public class EventSearchRepositoryTest extends EmbeddedPostgresTest {
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private EventSearchRepositoryImpl searchRepository;
+    private User user;
+    private Event offsite;
+    private Event dinner;
+    private Event hotel;
+    private Event hackathon;
+    private Event retro;
+
+    @BeforeEach
+    void setUp() {
+        searchRepository = new EventSearchRepositoryImpl(jdbcTemplate);
+
+        user = user("user@example.com");
+        User friend = user("friend@example.com");
+        User stranger = user("stranger@example.com");
+
+        offsite = event(user, "Berlin offsite planning", "Berlin", "work", 1);
+        dinner = event(user, "Team dinner", "Berlin Mitte", "social", 1);
+        event(user, "Dentist", "Munich", "health", 1);
+        hotel = event(user, "Book offsites hotel", "Berlin", "work", 2);
+        entityManager.persist(new AgendaItem(null, offsite, hotel));
+
+        // The friend's event the user is invited to, with its sub event; their other event stays private
+        hackathon = event(friend, "Hackathon", "Hamburg", "work", 1);
+        retro = event(friend, "Offsite retro", "Hamburg", "work", 2);
+        entityManager.persist(new AgendaItem(null, hackathon, retro));
+        entityManager.persist(new InvitedEvent(null, hackathon, friend, user, InvitationStatus.ACCEPTED));
+        entityManager.persist(new EventComment(null, hackathon, friend, "bring the kayak for the lake", LocalDateTime.now()));
+        event(friend, "Secret offsite", "Berlin", "work", 1);
+
+        event(stranger, "Offsite strategy", "Berlin", "work", 1);
+        entityManager.flush();
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("secret");
+        return entityManager.persist(user);
+    }
+
+    private Event event(User owner, String description, String location, String type, int hierarchy) {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 4, 10, 0);
+        Event event = entityManager.persist(new Event(description, 1, location, type, start, start.plusHours(2), 1));
+        entityManager.persist(new UserEvent(null, owner, event, hierarchy));
+        return event;
+    }
+
+    private List<EventSearchHitDTO> search(String query, boolean includeComments) {
+        return searchRepository.searchEvents(user.getId(), query, includeComments, 20);
+    }
+
+    private static Set<Long> ids(List<EventSearchHitDTO> hits) {
+        return hits.stream().map(hit -> hit.getEvent().getId()).collect(Collectors.toSet());
+    }
+
+    @Test
+    void testSearch_StemmedMatchesOfVisibleEventsOnly() {
+        assertTrue(searchRepository.hasSearchIndex());
+
+        List<EventSearchHitDTO> hits = search("offsite", false);
+
+        // "offsites" stems to the same lexeme; the friend's private event and the stranger's never show up
+        assertEquals(Set.of(offsite.getId(), hotel.getId(), retro.getId()), ids(hits));
+        for (EventSearchHitDTO hit : hits) {
+            assertEquals(!hit.getEvent().getId().equals(retro.getId()), hit.isOwned());
+            assertTrue(hit.getRank() > 0);
+        }
+        assertEquals(2, hits.stream().filter(hit -> hit.getEvent().getId().equals(retro.getId()))
+                .findFirst().orElseThrow().getEvent().getHierarchy());
+    }
+
+    @Test
+    void testSearch_DescriptionOutranksLocation() {
+        List<EventSearchHitDTO> hits = search("berlin", false);
+
+        assertEquals(Set.of(offsite.getId(), dinner.getId(), hotel.getId()), ids(hits));
+        assertEquals(offsite.getId(), hits.get(0).getEvent().getId());
+    }
+
+    @Test
+    void testSearch_PhraseAndNegation() {
+        assertEquals(Set.of(dinner.getId()), ids(search("\"team dinner\"", false)));
+        assertEquals(Set.of(offsite.getId(), hotel.getId()), ids(search("berlin -dinner", false)));
+        assertTrue(search("the", false).isEmpty());
+    }
+
+    @Test
+    void testSearch_CommentsOnlyWhenAsked() {
+        assertTrue(search("kayak", false).isEmpty());
+
+        List<EventSearchHitDTO> hits = search("kayak", true);
+
+        assertEquals(Set.of(hackathon.getId()), ids(hits));
+        assertFalse(hits.get(0).isOwned());
+    }
+}
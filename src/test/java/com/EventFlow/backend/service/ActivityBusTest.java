@@ -0,0 +1,174 @@
+package com.EventFlow.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.EventFlow.backend.dto.ActivityDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ActivityBusTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ActivityBus activityBus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        activityBus = new ActivityBus(meterRegistry, Runnable::run, 2); // deliver on the publishing thread
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static ActivityDTO comment(long eventId) {
+        return new ActivityDTO(ActivityDTO.Type.COMMENT_ADDED, eventId, Map.of("id", 1L));
+    }
+
+    @Test
+    void testPublish_ReachesOnlyListedUsersOncePerSubscription() {
+        List<ActivityDTO> first = new ArrayList<>();
+        List<ActivityDTO> second = new ArrayList<>();
+        List<ActivityDTO> other = new ArrayList<>();
+        activityBus.subscribe(1L, first::add);
+        activityBus.subscribe(1L, second::add);
+        activityBus.subscribe(2L, other::add);
+
+        activityBus.publish(List.of(1L, 1L, 3L), comment(10L));
+
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+        assertTrue(other.isEmpty());
+        assertEquals(3.0, meterRegistry.get("eventflow.activity.subscribers").gauge().value());
+    }
+
+    @Test
+    void testUnsubscribe_StopsDeliveryAndForgetsUser() {
+        List<ActivityDTO> received = new ArrayList<>();
+        Runnable unsubscribe = activityBus.subscribe(1L, received::add);
+
+        unsubscribe.run();
+        activityBus.publish(List.of(1L), comment(10L));
+
+        assertTrue(received.isEmpty());
+        assertFalse(activityBus.hasSubscribers());
+    }
+
+    @Test
+    void testPublish_WaitsForCommitAndSkipsFailingListeners() {
+        List<ActivityDTO> received = new ArrayList<>();
+        activityBus.subscribe(1L, activity -> { throw new IllegalStateException("client gone"); });
+        activityBus.subscribe(1L, received::add);
+        TransactionSynchronizationManager.initSynchronization();
+
+        activityBus.publish(List.of(1L), comment(10L));
+        assertTrue(received.isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, received.size());
+        assertEquals(10L, received.get(0).getEventId());
+    }
+
+    @Test
+    void testSubscribe_ReconnectsRacingCancelsOfTheSameUserStayReachable() throws Exception {
+        // Two streams of one user keep reconnecting: each cancels its old subscription and subscribes again while the
+        // other does the same, so a subscribe regularly meets the cancel that empties and removes the user's list.
+        // A new subscription must never land in a removed list, where it would hear neither its own publish nor an
+        // overflow. Delivery may run on the other stream's thread (it can be draining this subscription), and a
+        // stream descheduled mid-delivery can be dropped as a slow subscriber, so each stream waits for one of both.
+        ActivityBus bus = new ActivityBus(new SimpleMeterRegistry(), Runnable::run, 64);
+        ExecutorService streams = Executors.newFixedThreadPool(2);
+        try {
+            CyclicBarrier start = new CyclicBarrier(2);
+            Callable<Boolean> reconnectLoop = () -> {
+                start.await();
+                for (int round = 0; round < 500_000; round++) {
+                    AtomicBoolean reached = new AtomicBoolean();
+                    Runnable cancel = bus.subscribe(1L, new ActivityBus.Subscriber() {
+                        @Override
+                        public void onActivity(ActivityDTO activity) {
+                            reached.set(true);
+                        }
+
+                        @Override
+                        public void onOverflow() {
+                            reached.set(true);
+                        }
+                    });
+                    bus.publish(List.of(1L), comment(round));
+                    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                    while (!reached.get()) {
+                        if (System.nanoTime() > deadline) {
+                            return false;
+                        }
+                        Thread.onSpinWait();
+                    }
+                    cancel.run();
+                }
+                return true;
+            };
+            Future<Boolean> first = streams.submit(reconnectLoop);
+            Future<Boolean> second = streams.submit(reconnectLoop);
+
+            assertTrue(first.get());
+            assertTrue(second.get());
+        } finally {
+            streams.shutdownNow();
+        }
+        assertFalse(bus.hasSubscribers());
+    }
+
+    @Test
+    void testPublish_StalledSubscriberIsDroppedWithoutHoldingUpOthers() {
+        List<Runnable> pendingSends = new ArrayList<>();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ActivityBus bus = new ActivityBus(registry, pendingSends::add, 2);
+        List<ActivityDTO> received = new ArrayList<>();
+        List<String> overflows = new ArrayList<>();
+        bus.subscribe(1L, new ActivityBus.Subscriber() {
+            @Override
+            public void onActivity(ActivityDTO activity) {
+                throw new AssertionError("stalled subscriber is never drained");
+            }
+
+            @Override
+            public void onOverflow() {
+                overflows.add("user 1");
+            }
+        });
+        bus.subscribe(2L, received::add);
+
+        // The first send of each subscription is queued and never runs for user 1, as if its socket were stuck
+        bus.publish(List.of(1L, 2L), comment(10L));
+        pendingSends.remove(1).run();
+        bus.publish(List.of(1L, 2L), comment(11L));
+        bus.publish(List.of(1L, 2L), comment(12L));
+
+        assertEquals(List.of("user 1"), overflows);
+        assertEquals(1.0, registry.get("eventflow.activity.overflows").counter().count());
+        assertEquals(2, pendingSends.size()); // user 1's stuck send and user 2's next one
+        pendingSends.remove(1).run();
+        assertEquals(List.of(10L, 11L, 12L), received.stream().map(ActivityDTO::getEventId).toList());
+        assertEquals(1.0, registry.get("eventflow.activity.subscribers").gauge().value());
+    }
+}
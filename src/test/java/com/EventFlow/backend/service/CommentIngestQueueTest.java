@@ -0,0 +1,96 @@
+package com.EventFlow.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.EventFlow.backend.dto.EventCommentDTO;
+import com.EventFlow.backend.dto.PendingCommentDTO;
+import com.EventFlow.backend.exception.IngestQueueFullException;
+import com.EventFlow.backend.repository.EventCommentRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CommentIngestQueueTest {
+
+    @Mock private EventCommentRepository eventCommentRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CommentIngestQueue ingestQueue;
+    private final Map<Long, List<EventCommentDTO>> stored = new LinkedHashMap<>();
+
+    // Flusher thread not started: the tests call flush() themselves
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ingestQueue = new CommentIngestQueue(eventCommentRepository, meterRegistry, 3, 2, 0);
+        ingestQueue.addListener((eventId, comments) -> stored.computeIfAbsent(eventId, id -> new ArrayList<>()).addAll(comments));
+    }
+
+    private static PendingCommentDTO comment(long eventId, String text) {
+        return new PendingCommentDTO(eventId, 1L, "owner@example.com", text, LocalDateTime.of(2025, 3, 3, 12, 0));
+    }
+
+    private double counter(String result) {
+        return meterRegistry.counter("eventflow.comments.ingest", "result", result).count();
+    }
+
+    @Test
+    void testFlush_WritesOneBatchAndNotifiesPerEvent() {
+        when(eventCommentRepository.insertComments(anyList())).thenReturn(List.of(100L, 101L), List.of(102L));
+        ingestQueue.submit(comment(10L, "a"));
+        ingestQueue.submit(comment(11L, "b"));
+        ingestQueue.submit(comment(10L, "c"));
+
+        assertEquals(2, ingestQueue.flush());
+        assertEquals(1, ingestQueue.flush());
+        assertEquals(0, ingestQueue.flush());
+
+        verify(eventCommentRepository, times(2)).insertComments(anyList());
+        assertEquals(List.of(100L, 102L), stored.get(10L).stream().map(EventCommentDTO::getId).toList());
+        assertEquals("b", stored.get(11L).get(0).getText());
+        assertEquals(3, counter("stored"));
+    }
+
+    @Test
+    void testSubmit_RejectsWhenFull() {
+        ingestQueue.submit(comment(10L, "a"));
+        ingestQueue.submit(comment(10L, "b"));
+        ingestQueue.submit(comment(10L, "c"));
+
+        assertThrows(IngestQueueFullException.class, () -> ingestQueue.submit(comment(10L, "d")));
+        assertEquals(3, counter("accepted"));
+        assertEquals(1, counter("rejected"));
+    }
+
+    @Test
+    void testFlush_FailedBatchFallsBackToSingleRows() {
+        PendingCommentDTO good = comment(10L, "a");
+        PendingCommentDTO orphan = comment(99L, "b");
+        when(eventCommentRepository.insertComments(List.of(good, orphan))).thenThrow(new DataIntegrityViolationException("fk"));
+        when(eventCommentRepository.insertComments(List.of(good))).thenReturn(List.of(100L));
+        when(eventCommentRepository.insertComments(List.of(orphan))).thenThrow(new DataIntegrityViolationException("fk"));
+        ingestQueue.submit(good);
+        ingestQueue.submit(orphan);
+
+        assertEquals(2, ingestQueue.flush());
+
+        assertEquals(List.of(10L), List.copyOf(stored.keySet()));
+        assertEquals(1, counter("stored"));
+        assertEquals(1, counter("failed"));
+    }
+}
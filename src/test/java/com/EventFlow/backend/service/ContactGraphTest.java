@@ -0,0 +1,78 @@
+package com.EventFlow.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.EventFlow.backend.repository.ContactRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ContactGraphTest {
+
+    @Mock private ContactRepository contactRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ContactGraph contactGraph;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        contactGraph = new ContactGraph(contactRepository, meterRegistry);
+    }
+
+    @Test
+    void testReload_BuildsSortedAdjacencyInBothDirections() {
+        when(contactRepository.findAcceptedPairs()).thenReturn(List.of(
+                new Object[] { 1L, 5L }, new Object[] { 3L, 1L }, new Object[] { 5L, 3L }, new Object[] { 1L, 5L }));
+
+        contactGraph.reload();
+
+        assertArrayEquals(new long[] { 3L, 5L }, contactGraph.contactsOf(1L));
+        assertArrayEquals(new long[] { 1L, 5L }, contactGraph.contactsOf(3L));
+        assertTrue(contactGraph.areFriends(5L, 1L));
+        assertFalse(contactGraph.areFriends(5L, 4L));
+        assertEquals(3.0, meterRegistry.get("eventflow.contact.graph.edges").gauge().value());
+    }
+
+    @Test
+    void testIncrementalUpdates() {
+        contactGraph.addFriendship(1L, 2L);
+        contactGraph.addFriendship(1L, 9L);
+        contactGraph.addFriendship(4L, 1L);
+
+        assertArrayEquals(new long[] { 2L, 4L, 9L }, contactGraph.contactsOf(1L));
+        assertArrayEquals(new long[] { 1L }, contactGraph.contactsOf(4L));
+
+        contactGraph.removeFriendship(2L, 1L);
+        assertArrayEquals(new long[] { 4L, 9L }, contactGraph.contactsOf(1L));
+        assertEquals(0, contactGraph.contactsOf(2L).length);
+
+        contactGraph.removeUser(1L);
+        assertEquals(0, contactGraph.contactsOf(1L).length);
+        assertFalse(contactGraph.areFriends(9L, 1L));
+        assertEquals(0.0, meterRegistry.get("eventflow.contact.graph.memory").gauge().value());
+    }
+
+    @Test
+    void testReload_KeepsChangesMadeWhileLoading() {
+        // A friendship accepted after the table was read must survive the swap to the reloaded graph
+        when(contactRepository.findAcceptedPairs()).thenAnswer(invocation -> {
+            contactGraph.addFriendship(7L, 8L);
+            return List.<Object[]>of(new Object[] { 1L, 2L });
+        });
+
+        contactGraph.reload();
+
+        assertTrue(contactGraph.areFriends(1L, 2L));
+        assertTrue(contactGraph.areFriends(8L, 7L));
+    }
+}
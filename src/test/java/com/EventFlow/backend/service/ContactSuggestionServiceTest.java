@@ -0,0 +1,128 @@
+package com.EventFlow.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.EventFlow.backend.dto.ContactSuggestionDTO;
+import com.EventFlow.backend.dto.UserDTO;
+import com.EventFlow.backend.model.User;
+import com.EventFlow.backend.repository.ContactRepository;
+import com.EventFlow.backend.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ContactSuggestionServiceTest {
+
+    @Mock private ContactRepository contactRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private UserService userService;
+
+    private ContactGraph contactGraph;
+    private ContactSuggestionService suggestionService;
+
+    @BeforeEach
+    void setUp() {
+        contactGraph = new ContactGraph(contactRepository, new SimpleMeterRegistry());
+        suggestionService = new ContactSuggestionService(contactGraph, contactRepository, userRepository, userService,
+                50, 100, Duration.ofHours(1));
+
+        // 1 knows 2, 3, 4; 5 knows 2, 3, 4; 6 knows 2; 7 knows 5 only
+        contactGraph.addFriendship(1L, 2L);
+        contactGraph.addFriendship(1L, 3L);
+        contactGraph.addFriendship(1L, 4L);
+        contactGraph.addFriendship(5L, 2L);
+        contactGraph.addFriendship(5L, 3L);
+        contactGraph.addFriendship(5L, 4L);
+        contactGraph.addFriendship(6L, 2L);
+        contactGraph.addFriendship(7L, 5L);
+    }
+
+    private static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("user" + id + "@example.com");
+        return user;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void usersLoadedById() {
+        when(userRepository.findAllById(anyIterable())).thenAnswer(invocation -> ((Collection<Long>) invocation.getArgument(0))
+                .stream().map(ContactSuggestionServiceTest::user).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testIntersect_MergeAndGallop() {
+        assertArrayEquals(new long[] { 3L, 7L }, ContactSuggestionService.intersect(new long[] { 1L, 3L, 5L, 7L }, new long[] { 2L, 3L, 7L, 8L }));
+
+        long[] large = new long[1000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = i * 2L;
+        }
+        assertArrayEquals(new long[] { 4L, 1998L }, ContactSuggestionService.intersect(new long[] { 3L, 4L, 1998L }, large));
+        assertEquals(0, ContactSuggestionService.intersect(new long[0], large).length);
+    }
+
+    @Test
+    void testGetMutualContacts() {
+        when(userService.getAuthenticatedUser()).thenReturn(user(1L));
+        usersLoadedById();
+
+        List<UserDTO> mutual = suggestionService.getMutualContacts(5L);
+
+        assertEquals(List.of(2L, 3L, 4L), mutual.stream().map(UserDTO::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testGetSuggestions_RankedByMutualContacts() {
+        when(userService.getAuthenticatedUser()).thenReturn(user(1L));
+        usersLoadedById();
+
+        List<ContactSuggestionDTO> result = suggestionService.getSuggestions(10);
+
+        assertEquals(List.of(5L, 6L), result.stream().map(ContactSuggestionDTO::getId).collect(Collectors.toList()));
+        assertEquals(3, result.get(0).getMutualContacts());
+        assertEquals(1, result.get(1).getMutualContacts());
+    }
+
+    @Test
+    void testGetSuggestions_SkipsPendingRequests() {
+        when(userService.getAuthenticatedUser()).thenReturn(user(1L));
+        when(contactRepository.findPendingContactIds(1L)).thenReturn(List.of(5L));
+        usersLoadedById();
+
+        List<ContactSuggestionDTO> result = suggestionService.getSuggestions(10);
+
+        assertEquals(List.of(6L), result.stream().map(ContactSuggestionDTO::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testSuggestions_RefreshedWhenFriendshipsChange() {
+        when(userService.getAuthenticatedUser()).thenReturn(user(1L), user(7L), user(6L));
+        usersLoadedById();
+        suggestionService.getSuggestions(10);
+        suggestionService.getSuggestions(10);
+        suggestionService.getSuggestions(10);
+        assertEquals(3, suggestionService.getNativeCache().estimatedSize());
+
+        // 1 and 5 become friends: both users and their contacts (2, 3, 4, 7) are affected, 6 is not
+        contactGraph.addFriendship(1L, 5L);
+
+        assertNull(suggestionService.getNativeCache().getIfPresent(1L));
+        assertNull(suggestionService.getNativeCache().getIfPresent(7L));
+        assertNotNull(suggestionService.getNativeCache().getIfPresent(6L));
+        assertTrue(suggestionService.computeSuggestions(1L).stream().noneMatch(suggestion -> suggestion.userId() == 5L));
+    }
+}
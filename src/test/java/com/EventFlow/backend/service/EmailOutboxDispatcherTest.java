@@ -0,0 +1,161 @@
+package com.EventFlow.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.EventFlow.backend.model.OutboundEmail;
+import com.EventFlow.backend.model.OutboundEmailStatus;
+import com.EventFlow.backend.repository.OutboundEmailRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailOutboxDispatcherTest {
+
+    @Mock private OutboundEmailRepository outboundEmailRepository;
+    @Mock private JavaMailSender mailSender;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new EmailOutboxDispatcher(outboundEmailRepository, mailSender, new TransactionTemplate(transactionManager),
+                new SimpleMeterRegistry(), 50, 3, Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofMinutes(5));
+    }
+
+    private OutboundEmail email(long id, String recipient) {
+        OutboundEmail email = new OutboundEmail(recipient, "Reset your password", "Click the link");
+        email.setId(id);
+        return email;
+    }
+
+    @Test
+    void testDispatch_SendsBatchInOneCallAndRemovesIt() {
+        OutboundEmail first = email(1L, "a@example.com");
+        OutboundEmail second = email(2L, "b@example.com");
+        when(outboundEmailRepository.findDueForDispatch(any(), any())).thenReturn(List.of(first, second));
+
+        dispatcher.dispatch();
+
+        ArgumentCaptor<SimpleMailMessage[]> sent = ArgumentCaptor.forClass(SimpleMailMessage[].class);
+        verify(mailSender, times(1)).send(sent.capture());
+        assertEquals(2, sent.getValue().length);
+        verify(outboundEmailRepository).deleteAllInBatch(List.of(first, second));
+    }
+
+    @Test
+    void testDispatch_LeasesBatchAndSendsOutsideTransactions() {
+        OutboundEmail email = email(1L, "a@example.com");
+        when(outboundEmailRepository.findDueForDispatch(any(), any())).thenReturn(List.of(email));
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+
+        // claim tx (find + lease) committed before SMTP, then the cleanup tx
+        InOrder inOrder = inOrder(outboundEmailRepository, transactionManager, mailSender);
+        inOrder.verify(outboundEmailRepository).findDueForDispatch(any(), any());
+        inOrder.verify(outboundEmailRepository).leaseUntil(eq(List.of(1L)), argThat(until -> !until.isBefore(before.plusMinutes(5))));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(mailSender).send(any(SimpleMailMessage[].class));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(outboundEmailRepository).deleteAllInBatch(List.of(email));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testDispatch_IdenticalMessagesAreSentSeparately() {
+        OutboundEmail first = email(1L, "a@example.com");
+        OutboundEmail duplicate = email(2L, "a@example.com");
+        when(outboundEmailRepository.findDueForDispatch(any(), any())).thenReturn(List.of(first, duplicate));
+        // First call delivers, second is rejected: only the duplicate must be retried
+        doNothing()
+                .doAnswer(invocation -> {
+                    SimpleMailMessage failed = (SimpleMailMessage) invocation.getArguments()[0];
+                    throw new MailSendException(Map.of(failed, new RuntimeException("Mailbox full")));
+                })
+                .when(mailSender).send(any(SimpleMailMessage[].class));
+
+        dispatcher.dispatch();
+
+        verify(mailSender, times(2)).send(any(SimpleMailMessage[].class));
+        verify(outboundEmailRepository).deleteAllInBatch(List.of(first));
+        verify(outboundEmailRepository).saveAll(List.of(duplicate));
+        assertEquals(0, first.getAttempts());
+        assertEquals(1, duplicate.getAttempts());
+    }
+
+    @Test
+    void testDispatch_RetriesOnlyRejectedMessages() {
+        OutboundEmail delivered = email(1L, "a@example.com");
+        OutboundEmail rejected = email(2L, "b@example.com");
+        when(outboundEmailRepository.findDueForDispatch(any(), any())).thenReturn(List.of(delivered, rejected));
+        doAnswer(invocation -> {
+            // Varargs are expanded: one argument per message in the batch
+            SimpleMailMessage failed = (SimpleMailMessage) invocation.getArguments()[1];
+            throw new MailSendException(Map.of(failed, new RuntimeException("Mailbox unavailable")));
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+
+        verify(outboundEmailRepository).deleteAllInBatch(List.of(delivered));
+        verify(outboundEmailRepository).saveAll(List.of(rejected));
+        assertEquals(1, rejected.getAttempts());
+        assertEquals(OutboundEmailStatus.PENDING, rejected.getStatus());
+        assertEquals("Mailbox unavailable", rejected.getLastError());
+        assertFalse(rejected.getNextAttemptAt().isBefore(before.plusSeconds(30)));
+    }
+
+    @Test
+    void testDispatch_GivesUpAfterMaxAttempts() {
+        OutboundEmail email = email(1L, "a@example.com");
+        email.setAttempts(2);
+        when(outboundEmailRepository.findDueForDispatch(any(), any())).thenReturn(List.of(email));
+        doThrow(new MailAuthenticationException("Bad credentials")).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        dispatcher.dispatch();
+
+        assertEquals(3, email.getAttempts());
+        assertEquals(OutboundEmailStatus.FAILED, email.getStatus());
+        verify(outboundEmailRepository, never()).deleteAllInBatch(anyIterable());
+    }
+
+    @Test
+    void testDispatch_EmptyOutbox() {
+        when(outboundEmailRepository.findDueForDispatch(any(), any())).thenReturn(List.of());
+
+        dispatcher.dispatch();
+
+        verifyNoInteractions(mailSender);
+    }
+
+    @Test
+    void testBackoff_DoublesUpToCap() {
+        assertEquals(Duration.ofSeconds(30), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(60), dispatcher.backoff(2));
+        assertEquals(Duration.ofSeconds(120), dispatcher.backoff(3));
+        assertEquals(Duration.ofMinutes(5), dispatcher.backoff(10));
+        assertEquals(Duration.ofMinutes(5), dispatcher.backoff(100));
+    }
+}
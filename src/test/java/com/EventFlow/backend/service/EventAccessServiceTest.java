@@ -0,0 +1,79 @@
+package com.EventFlow.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.EventFlow.backend.model.EventAccess;
+import com.EventFlow.backend.model.InvitationStatus;
+import com.EventFlow.backend.repository.EventRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventAccessServiceTest {
+
+    @Mock private EventRepository eventRepository;
+
+    private EventAccessService accessService;
+
+    @BeforeEach
+    void setUp() {
+        accessService = new EventAccessService(eventRepository, 100, Duration.ofMinutes(5));
+    }
+
+    private static List<Object[]> row(long userEvents, InvitationStatus status) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] { userEvents, status });
+        return rows;
+    }
+
+    @Test
+    void testGetAccess_MapsRowAndCachesIt() {
+        when(eventRepository.findAccessRow(10L, 1L)).thenReturn(row(1, null));
+        when(eventRepository.findAccessRow(10L, 2L)).thenReturn(row(0, InvitationStatus.ACCEPTED));
+        when(eventRepository.findAccessRow(10L, 3L)).thenReturn(row(0, null));
+
+        assertEquals(Optional.of(EventAccess.OWNER), accessService.getAccess(1L, 10L));
+        assertEquals(Optional.of(EventAccess.ACCEPTED), accessService.getAccess(2L, 10L));
+        assertEquals(Optional.of(EventAccess.NONE), accessService.getAccess(3L, 10L));
+        assertEquals(Optional.of(EventAccess.OWNER), accessService.getAccess(1L, 10L));
+
+        verify(eventRepository, times(1)).findAccessRow(10L, 1L);
+    }
+
+    @Test
+    void testGetAccess_MissingEventIsNotCached() {
+        when(eventRepository.findAccessRow(10L, 1L)).thenReturn(List.of());
+
+        assertTrue(accessService.getAccess(1L, 10L).isEmpty());
+        assertTrue(accessService.getAccess(1L, 10L).isEmpty());
+
+        verify(eventRepository, times(2)).findAccessRow(10L, 1L);
+    }
+
+    @Test
+    void testInvalidate_ReloadsChangedEntries() {
+        when(eventRepository.findAccessRow(10L, 2L))
+                .thenReturn(row(0, null), row(0, InvitationStatus.INVITED));
+        when(eventRepository.findAccessRow(11L, 2L)).thenReturn(row(1, null), List.of());
+
+        assertEquals(Optional.of(EventAccess.NONE), accessService.getAccess(2L, 10L));
+        assertEquals(Optional.of(EventAccess.OWNER), accessService.getAccess(2L, 11L));
+
+        // No transaction active: both apply immediately
+        accessService.invalidate(2L, 10L);
+        accessService.invalidateEvents(List.of(11L));
+
+        assertEquals(Optional.of(EventAccess.INVITED), accessService.getAccess(2L, 10L));
+        assertTrue(accessService.getAccess(2L, 11L).isEmpty());
+    }
+}
@@ -0,0 +1,256 @@
+package com.EventFlow.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.EventFlow.backend.dto.BulkInviteResultDTO;
+import com.EventFlow.backend.dto.CursorPageDTO;
+import com.EventFlow.backend.dto.EventCommentDTO;
+import com.EventFlow.backend.dto.InvitedEventDTO;
+import com.EventFlow.backend.dto.PendingCommentDTO;
+import com.EventFlow.backend.model.*;
+import com.EventFlow.backend.repository.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventInvitationServiceTest {
+
+    @Mock private EventRepository eventRepository;
+    @Mock private UserService userService;
+    @Mock private UserRepository userRepository;
+    @Mock private EventInvitationRepository eventInvitationRepository;
+    @Mock private AgendaItemRepository agendaItemRepository;
+    @Mock private ContactRepository contactRepository;
+    @Mock private UserEventRepository userEventRepository;
+    @Mock private EventCommentRepository eventCommentRepository;
+    @Mock private ActivityBus activityBus;
+    @Mock private EventAccessService eventAccessService;
+    @Mock private CommentIngestQueue commentIngestQueue;
+
+    @InjectMocks
+    private EventInvitationService invitationService;
+
+    private User owner;
+    private User contact;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setId(1L);
+        owner.setEmail("owner@example.com");
+
+        contact = new User();
+        contact.setId(2L);
+        contact.setEmail("contact@example.com");
+    }
+
+    private Event event(long id, int order) {
+        Event event = new Event("Event " + id, 1, "Berlin", "work", LocalDateTime.now(), LocalDateTime.now().plusHours(1), order);
+        event.setId(id);
+        return event;
+    }
+
+    private InvitedEvent invitation(Event event, InvitationStatus status) {
+        return new InvitedEvent(null, event, owner, contact, status);
+    }
+
+    private UserEvent ownerLink(Event event) {
+        return new UserEvent(null, owner, event, 1);
+    }
+
+    @Test
+    void testGetPendingInvitations_LoadsHierarchiesInOneQuery() {
+        Event first = event(10L, 1);
+        Event second = event(11L, 2);
+        when(userService.getAuthenticatedUser()).thenReturn(contact);
+        when(eventInvitationRepository.findWithEventAndOwnerByContactAndStatus(contact, InvitationStatus.INVITED))
+                .thenReturn(List.of(invitation(first, InvitationStatus.INVITED), invitation(second, InvitationStatus.INVITED)));
+        when(userEventRepository.findByUserIdInAndEventIdIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of(ownerLink(first), ownerLink(second)));
+
+        List<InvitedEventDTO> result = invitationService.getPendingInvitations();
+
+        assertEquals(2, result.size());
+        assertEquals(10L, result.get(0).getEvent().getId());
+        assertEquals(1, result.get(0).getEvent().getHierarchy());
+        assertEquals("owner@example.com", result.get(1).getOwnerEmail());
+        verify(userEventRepository, times(1)).findByUserIdInAndEventIdIn(anyCollection(), anyCollection());
+        verify(userEventRepository, never()).findByUserAndEvent(any(), any());
+    }
+
+    @Test
+    void testGetInvitedEvents_MissingOwnerLink() {
+        when(userService.getAuthenticatedUser()).thenReturn(contact);
+        when(eventInvitationRepository.findWithEventAndOwnerByContactAndStatus(contact, InvitationStatus.ACCEPTED))
+                .thenReturn(List.of(invitation(event(10L, 1), InvitationStatus.ACCEPTED)));
+        when(userEventRepository.findByUserIdInAndEventIdIn(anyCollection(), anyCollection())).thenReturn(List.of());
+
+        Exception exception = assertThrows(RuntimeException.class, () -> invitationService.getInvitedEvents());
+
+        assertEquals("UserEvent not found for owner and event", exception.getMessage());
+    }
+
+    @Test
+    void testGetInvitedEvents_NoInvitations() {
+        when(userService.getAuthenticatedUser()).thenReturn(contact);
+        when(eventInvitationRepository.findWithEventAndOwnerByContactAndStatus(contact, InvitationStatus.ACCEPTED))
+                .thenReturn(List.of());
+
+        assertTrue(invitationService.getInvitedEvents().isEmpty());
+        verifyNoInteractions(userEventRepository);
+    }
+
+    @Test
+    void testInviteEventBulk_OneFriendshipQueryAndOneBatch() {
+        Event event = event(10L, 1);
+        when(userService.getAuthenticatedUser()).thenReturn(owner);
+        when(eventRepository.findById(10L)).thenReturn(Optional.of(event));
+        when(userEventRepository.findByUserAndEventAndHierarchy(owner, event, 1)).thenReturn(Optional.of(ownerLink(event)));
+        when(contactRepository.findAcceptedContactIdsAmong(1L, Set.of(2L, 3L, 4L, 5L))).thenReturn(List.of(2L, 3L, 4L));
+        when(eventInvitationRepository.findInvitedContactIds(eq(10L), anyCollection())).thenReturn(List.of(3L));
+
+        BulkInviteResultDTO result = invitationService.inviteEventBulk(10L, List.of(2L, 3L, 4L, 5L, 2L));
+
+        assertEquals(List.of(2L, 4L), result.getInvited());
+        assertEquals(List.of(3L), result.getAlreadyInvited());
+        assertEquals(List.of(5L), result.getNotContacts());
+        verify(eventInvitationRepository).insertInvitations(10L, 1L, List.of(2L, 4L));
+        verify(contactRepository, never()).findBySenderAndContact(any(), any());
+        verify(eventInvitationRepository, never()).save(any());
+    }
+
+    @Test
+    void testInviteEventBulk_NoFriends() {
+        Event event = event(10L, 1);
+        when(userService.getAuthenticatedUser()).thenReturn(owner);
+        when(eventRepository.findById(10L)).thenReturn(Optional.of(event));
+        when(userEventRepository.findByUserAndEventAndHierarchy(owner, event, 1)).thenReturn(Optional.of(ownerLink(event)));
+        when(contactRepository.findAcceptedContactIdsAmong(eq(1L), anyCollection())).thenReturn(List.of());
+
+        BulkInviteResultDTO result = invitationService.inviteEventBulk(10L, List.of(7L, 8L));
+
+        assertTrue(result.getInvited().isEmpty());
+        assertEquals(List.of(7L, 8L), result.getNotContacts());
+        verify(eventInvitationRepository, never()).findInvitedContactIds(any(), anyCollection());
+        verify(eventInvitationRepository, never()).insertInvitations(any(), any(), anyCollection());
+    }
+
+    @Test
+    void testInviteEvent_PendingContactIsNotAFriend() {
+        Event event = event(10L, 1);
+        Contact pending = new Contact();
+        pending.setSender(owner);
+        pending.setContact(contact);
+        when(userService.getAuthenticatedUser()).thenReturn(owner);
+        when(eventRepository.findById(10L)).thenReturn(Optional.of(event));
+        when(userEventRepository.findByUserAndEventAndHierarchy(owner, event, 1)).thenReturn(Optional.of(ownerLink(event)));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(contact));
+        when(contactRepository.findBetween(1L, 2L)).thenReturn(Optional.of(pending));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> invitationService.inviteEvent(10L, 2L));
+
+        assertEquals("You can only invite your friends to events", exception.getMessage());
+        verify(eventInvitationRepository, never()).save(any());
+    }
+
+    @Test
+    void testGetComments_KeysetPageNewestFirst() {
+        LocalDateTime now = LocalDateTime.of(2025, 3, 3, 12, 0);
+        when(userService.getAuthenticatedUser()).thenReturn(contact);
+        when(eventAccessService.getAccess(2L, 10L)).thenReturn(Optional.of(EventAccess.INVITED));
+        when(eventCommentRepository.findCommentPageDesc(eq(10L), any(LocalDateTime.class), eq(Long.MAX_VALUE), any()))
+                .thenReturn(List.of(
+                        new EventCommentDTO(3L, "owner@example.com", now, "third"),
+                        new EventCommentDTO(2L, "contact@example.com", now.minusMinutes(1), "second"),
+                        new EventCommentDTO(1L, "owner@example.com", now.minusMinutes(2), "first")));
+
+        CursorPageDTO<EventCommentDTO> page = invitationService.getComments(10L, null, 2, true);
+
+        assertEquals(List.of(3L, 2L), page.getItems().stream().map(EventCommentDTO::getId).toList());
+        CursorPageDTO.TimeCursor next = CursorPageDTO.decodeTimeCursor(page.getNextCursor());
+        assertEquals(now.minusMinutes(1), next.createdAt());
+        assertEquals(2L, next.id());
+
+        when(eventCommentRepository.findCommentPageDesc(eq(10L), eq(now.minusMinutes(1)), eq(2L), any()))
+                .thenReturn(List.of(new EventCommentDTO(1L, "owner@example.com", now.minusMinutes(2), "first")));
+
+        CursorPageDTO<EventCommentDTO> last = invitationService.getComments(10L, page.getNextCursor(), 2, true);
+
+        assertEquals(1, last.getItems().size());
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    void testGetComments_NoAccess() {
+        when(userService.getAuthenticatedUser()).thenReturn(contact);
+        when(eventAccessService.getAccess(2L, 10L)).thenReturn(Optional.of(EventAccess.NONE));
+
+        Exception exception = assertThrows(RuntimeException.class, () -> invitationService.getComments(10L, null, 20, false));
+
+        assertEquals("You do not have access to view comments!", exception.getMessage());
+        verifyNoInteractions(eventCommentRepository);
+    }
+
+    @Test
+    void testGetComments_EventNotFound() {
+        when(userService.getAuthenticatedUser()).thenReturn(contact);
+        when(eventAccessService.getAccess(2L, 10L)).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(RuntimeException.class, () -> invitationService.getComments(10L, null, 20, false));
+
+        assertEquals("Event not found!", exception.getMessage());
+        verifyNoInteractions(eventCommentRepository);
+    }
+
+    @Test
+    void testAcceptInvitation_InvalidatesAccess() {
+        Event event = event(10L, 1);
+        InvitedEvent invitation = new InvitedEvent();
+        invitation.setEvent(event);
+        invitation.setOwner(owner);
+        invitation.setContact(contact);
+        invitation.setStatus(InvitationStatus.INVITED);
+        when(userService.getAuthenticatedUser()).thenReturn(contact);
+        when(eventRepository.findById(10L)).thenReturn(Optional.of(event));
+        when(eventInvitationRepository.findByEventAndContact(event, contact)).thenReturn(Optional.of(invitation));
+
+        invitationService.acceptInvitation(10L);
+
+        assertEquals(InvitationStatus.ACCEPTED, invitation.getStatus());
+        verify(eventAccessService).invalidate(2L, 10L);
+    }
+
+    @Test
+    void testAddComment_ValidatesThenQueues() {
+        when(userService.getAuthenticatedUser()).thenReturn(contact);
+        when(eventAccessService.getAccess(2L, 10L)).thenReturn(Optional.of(EventAccess.ACCEPTED));
+
+        invitationService.addComment(10L, "see you there");
+
+        verify(commentIngestQueue).submit(argThat((PendingCommentDTO c) ->
+                c.getEventId() == 10L && c.getAuthorId() == 2L && c.getText().equals("see you there")));
+        verifyNoInteractions(eventCommentRepository);
+    }
+
+    @Test
+    void testAddComment_RejectsTooLongText() {
+        when(userService.getAuthenticatedUser()).thenReturn(contact);
+
+        Exception exception = assertThrows(RuntimeException.class, () -> invitationService.addComment(10L, "x".repeat(256)));
+
+        assertEquals("Comment cannot exceed 255 characters!", exception.getMessage());
+        verifyNoInteractions(commentIngestQueue);
+    }
+}
@@ -0,0 +1,317 @@
+package com.EventFlow.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.EventFlow.backend.dto.AgendaItemDTO;
+import com.EventFlow.backend.dto.CreateEventBatchDTO;
+import com.EventFlow.backend.dto.CreateEventDTO;
+import com.EventFlow.backend.dto.EventDTO;
+import com.EventFlow.backend.dto.EventRangeDTO;
+import com.EventFlow.backend.dto.EventSearchHitDTO;
+import com.EventFlow.backend.dto.EventTreeDTO;
+import com.EventFlow.backend.dto.InvitedEventDTO;
+import com.EventFlow.backend.dto.UpdateEventDTO;
+import com.EventFlow.backend.model.*;
+import com.EventFlow.backend.repository.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventServiceTest {
+
+    @Mock private EventRepository eventRepository;
+    @Mock private UserEventRepository userEventRepository;
+    @Mock private AgendaItemRepository agendaItemRepository;
+    @Mock private EventInvitationRepository eventInvitationRepository;
+    @Mock private EventCommentRepository eventCommentRepository;
+    @Mock private UserService userService;
+    @Mock private EventAccessService eventAccessService;
+
+    @InjectMocks
+    private EventService eventService;
+
+    private User user;
+    private Event mainEvent;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+        user.setEmail("test@example.com");
+
+        mainEvent = new Event("Offsite", 1, "Berlin", "work", LocalDateTime.now(), LocalDateTime.now().plusDays(2), 1);
+        mainEvent.setId(10L);
+
+        lenient().when(userService.getAuthenticatedUser()).thenReturn(user);
+    }
+
+    @Test
+    void testDeleteEvent_BulkDeletesEverythingAttached() {
+        when(eventRepository.findById(10L)).thenReturn(Optional.of(mainEvent));
+        when(userEventRepository.findByUserAndEventAndHierarchy(user, mainEvent, 1))
+                .thenReturn(Optional.of(new UserEvent(1L, user, mainEvent, 1)));
+        when(agendaItemRepository.findItemAgendaIdsByMainEventId(10L)).thenReturn(List.of(11L, 12L));
+
+        eventService.deleteEvent(10L);
+
+        List<Long> eventIds = List.of(11L, 12L, 10L);
+        InOrder inOrder = inOrder(eventCommentRepository, eventInvitationRepository, userEventRepository,
+                agendaItemRepository, eventRepository);
+        inOrder.verify(eventCommentRepository).deleteByEventIdIn(eventIds);
+        inOrder.verify(eventInvitationRepository).deleteByEventIdIn(eventIds);
+        inOrder.verify(userEventRepository).deleteByEventIdIn(eventIds);
+        inOrder.verify(agendaItemRepository).deleteByMainEventId(10L);
+        inOrder.verify(eventRepository).deleteByIdIn(eventIds);
+        verify(eventRepository, never()).deleteAll(anyIterable());
+        verify(eventAccessService).invalidateEvents(eventIds);
+    }
+
+    @Test
+    void testDeleteEvent_NotOwner() {
+        when(eventRepository.findById(10L)).thenReturn(Optional.of(mainEvent));
+        when(userEventRepository.findByUserAndEventAndHierarchy(user, mainEvent, 1)).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(RuntimeException.class, () -> eventService.deleteEvent(10L));
+
+        assertEquals("Event not assigned to user or it's not a main Event!", exception.getMessage());
+        verify(eventRepository, never()).deleteByIdIn(anyCollection());
+    }
+
+    @Test
+    void testGetEventsInRange_OwnAndAcceptedInvitedEvents() {
+        LocalDateTime from = LocalDateTime.of(2025, 3, 3, 0, 0);
+        LocalDateTime to = from.plusDays(7);
+        EventDTO own = new EventDTO(10L, "Offsite", 1, "Berlin", "work", from.plusDays(1), from.plusDays(2), false, 1, 1);
+        when(eventRepository.findEventDTOsByUserInRange(1L, from, to)).thenReturn(List.of(own));
+
+        EventDTO party = new EventDTO(20L, "Party", 2, "Paris", "fun", from.plusDays(3), from.plusDays(4), false, 1, 1);
+        when(eventRepository.findInvitedEventDTOsByContactAndStatusInRange(1L, InvitationStatus.ACCEPTED, from, to))
+                .thenReturn(List.of(new InvitedEventDTO(party, "owner@example.com", 2L, InvitationStatus.ACCEPTED)));
+
+        EventRangeDTO range = eventService.getEventsInRange(from, to);
+
+        assertEquals(List.of(own), range.getEvents());
+        assertEquals(1, range.getInvitedEvents().size());
+        assertEquals(20L, range.getInvitedEvents().get(0).getEvent().getId());
+        assertEquals(1, range.getInvitedEvents().get(0).getEvent().getHierarchy());
+        assertEquals("owner@example.com", range.getInvitedEvents().get(0).getOwnerEmail());
+    }
+
+    @Test
+    void testGetEventsInRange_InvalidRange() {
+        LocalDateTime from = LocalDateTime.of(2025, 3, 3, 0, 0);
+
+        Exception reversed = assertThrows(RuntimeException.class, () -> eventService.getEventsInRange(from, from));
+        Exception tooLong = assertThrows(RuntimeException.class, () -> eventService.getEventsInRange(from, from.plusDays(400)));
+
+        assertEquals("from must be before to", reversed.getMessage());
+        assertEquals("Range cannot exceed 366 days", tooLong.getMessage());
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void testSearchEvents_TrimsQueryAndSearchesForUser() {
+        EventSearchHitDTO hit = new EventSearchHitDTO(new EventDTO(mainEvent, null), true, 0.6);
+        when(eventRepository.searchEvents(1L, "berlin offsite", true, 20)).thenReturn(List.of(hit));
+
+        assertEquals(List.of(hit), eventService.searchEvents("  berlin offsite ", true, 20));
+    }
+
+    @Test
+    void testSearchEvents_InvalidQuery() {
+        Exception blank = assertThrows(RuntimeException.class, () -> eventService.searchEvents("   ", false, 20));
+        Exception tooLong = assertThrows(RuntimeException.class, () -> eventService.searchEvents("x".repeat(201), false, 20));
+
+        assertEquals("Search query cannot be empty", blank.getMessage());
+        assertEquals("Search query cannot exceed 200 characters", tooLong.getMessage());
+        verify(eventRepository, never()).searchEvents(any(), any(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    void testGetEventTree_MainEventWithOrderedSubEvents() {
+        UserEvent userEvent = new UserEvent(1L, user, mainEvent, 1);
+        Event first = new Event("Keynote", 1, "Berlin", "work", LocalDateTime.now(), LocalDateTime.now().plusHours(1), 1);
+        first.setId(11L);
+        Event second = new Event("Workshop", 1, "Berlin", "work", LocalDateTime.now(), LocalDateTime.now().plusHours(2), 2);
+        second.setId(12L);
+        when(userEventRepository.findEventTreeRows(user, 10L))
+                .thenReturn(List.of(new Object[] { userEvent, first }, new Object[] { userEvent, second }));
+
+        EventTreeDTO tree = eventService.getEventTree(10L);
+
+        assertEquals(10L, tree.getEvent().getId());
+        assertEquals(1, tree.getEvent().getHierarchy());
+        assertEquals(List.of(11L, 12L), tree.getSubEvents().stream().map(AgendaItemDTO::getItemAgendaId).toList());
+        verifyNoInteractions(eventRepository, agendaItemRepository);
+    }
+
+    @Test
+    void testGetEventTree_NoSubEvents() {
+        when(userEventRepository.findEventTreeRows(user, 10L))
+                .thenReturn(List.<Object[]>of(new Object[] { new UserEvent(1L, user, mainEvent, 1), null }));
+
+        EventTreeDTO tree = eventService.getEventTree(10L);
+
+        assertEquals(10L, tree.getEvent().getId());
+        assertTrue(tree.getSubEvents().isEmpty());
+    }
+
+    @Test
+    void testGetEventTree_NotOwned() {
+        when(userEventRepository.findEventTreeRows(user, 10L)).thenReturn(List.of());
+
+        Exception exception = assertThrows(RuntimeException.class, () -> eventService.getEventTree(10L));
+
+        assertEquals("Event not assigned to user or it's not a main Event!", exception.getMessage());
+    }
+
+    @Test
+    void testReorderEvents_WritesOnlyChangedOrdersInOneUpdate() {
+        List<Long> eventIds = List.of(12L, 10L, 11L);
+        when(userEventRepository.findEventOrders(user, 1))
+                .thenReturn(List.of(new Object[] { 10L, 1 }, new Object[] { 12L, 2 }, new Object[] { 11L, 3 }));
+
+        int changed = eventService.reorderEvents(eventIds);
+
+        assertEquals(2, changed);
+        verify(eventRepository).updateEventOrders(Map.of(12L, 1, 10L, 2));
+
+        when(userEventRepository.findEventOrders(user, 1))
+                .thenReturn(List.of(new Object[] { 12L, 1 }, new Object[] { 10L, 2 }, new Object[] { 11L, 5 }));
+
+        assertEquals(1, eventService.reorderEvents(eventIds));
+        verify(eventRepository).updateEventOrders(Map.of(11L, 3));
+    }
+
+    @Test
+    void testReorderEvents_PartialListRenumbersToAPermutation() {
+        // 11 and 12 share order 2; the listed 13 and 11 swap the positions they occupy
+        when(userEventRepository.findEventOrders(user, 1)).thenReturn(List.of(
+                new Object[] { 10L, 1 }, new Object[] { 11L, 2 }, new Object[] { 12L, 2 }, new Object[] { 13L, 4 }));
+
+        assertEquals(3, eventService.reorderEvents(List.of(13L, 11L)));
+
+        verify(eventRepository).updateEventOrders(Map.of(13L, 2, 12L, 3, 11L, 4));
+    }
+
+    @Test
+    void testReorderEvents_RejectsForeignOrDuplicateIds() {
+        when(userEventRepository.findEventOrders(user, 1))
+                .thenReturn(List.<Object[]>of(new Object[] { 10L, 1 }));
+
+        Exception foreign = assertThrows(RuntimeException.class, () -> eventService.reorderEvents(List.of(10L, 99L)));
+        Exception duplicate = assertThrows(RuntimeException.class, () -> eventService.reorderEvents(List.of(10L, 10L)));
+
+        assertEquals("All events must be main events owned by the user!", foreign.getMessage());
+        assertEquals("Event ids must be distinct", duplicate.getMessage());
+        verify(eventRepository, never()).updateEventOrders(anyMap());
+    }
+
+    @Test
+    void testReorderAgendaItems_RequiresOwnedMainEvent() {
+        when(userEventRepository.existsByUserAndEventIdAndHierarchy(user, 10L, 1)).thenReturn(false);
+
+        Exception exception = assertThrows(RuntimeException.class, () -> eventService.reorderAgendaItems(10L, List.of(11L, 12L)));
+
+        assertEquals("Event not assigned to user or it's not a main Event!", exception.getMessage());
+        verifyNoInteractions(agendaItemRepository);
+        verify(eventRepository, never()).updateEventOrders(anyMap());
+    }
+
+    @Test
+    void testCreateEventWithSubEvents_InsertsTreeInOneCall() {
+        CreateEventBatchDTO batch = new CreateEventBatchDTO();
+        batch.setEvent(eventDraft("Conference", 1));
+        batch.setSubEvents(List.of(eventDraft("Closing", 2), eventDraft("Opening", 1)));
+        doAnswer(invocation -> {
+            Event main = invocation.getArgument(1);
+            List<Event> subEvents = invocation.getArgument(2);
+            main.setId(100L);
+            subEvents.get(0).setId(101L);
+            subEvents.get(1).setId(102L);
+            return null;
+        }).when(eventRepository).insertEventTree(eq(1L), any(Event.class), anyList());
+
+        EventTreeDTO tree = eventService.createEventWithSubEvents(batch);
+
+        assertEquals(100L, tree.getEvent().getId());
+        assertEquals(1, tree.getEvent().getHierarchy());
+        assertEquals(List.of("Opening", "Closing"), tree.getSubEvents().stream().map(AgendaItemDTO::getDescription).toList());
+        assertEquals(List.of(102L, 101L), tree.getSubEvents().stream().map(AgendaItemDTO::getItemAgendaId).toList());
+        verify(eventRepository, never()).save(any());
+        verifyNoInteractions(agendaItemRepository);
+    }
+
+    private static CreateEventDTO eventDraft(String description, int order) {
+        CreateEventDTO draft = new CreateEventDTO();
+        draft.setDescription(description);
+        draft.setImportanceLevel(1);
+        draft.setLocation("Berlin");
+        draft.setType("work");
+        draft.setStartDate(LocalDateTime.now());
+        draft.setDueDate(LocalDateTime.now().plusHours(1));
+        draft.setOrder(order);
+        return draft;
+    }
+
+    @Test
+    void testUpdateEventStatus_SingleConditionalUpdate() {
+        when(eventRepository.updateDoneIfOwned(10L, 1L, true)).thenReturn(1);
+
+        eventService.updateEventStatus(10L, true);
+
+        verify(eventRepository, never()).findById(any());
+        verify(eventRepository, never()).save(any());
+        verifyNoInteractions(userEventRepository);
+    }
+
+    @Test
+    void testUpdateEventStatus_NotFoundOrNotOwned() {
+        when(eventRepository.updateDoneIfOwned(anyLong(), eq(1L), eq(true))).thenReturn(0);
+        when(eventRepository.existsById(10L)).thenReturn(true);
+        when(eventRepository.existsById(99L)).thenReturn(false);
+
+        Exception notOwned = assertThrows(RuntimeException.class, () -> eventService.updateEventStatus(10L, true));
+        Exception missing = assertThrows(RuntimeException.class, () -> eventService.updateEventStatus(99L, true));
+
+        assertEquals("Event not assigned to user!", notOwned.getMessage());
+        assertEquals("Event not found!", missing.getMessage());
+    }
+
+    @Test
+    void testUpdateEvent_WritesOnlyThroughConditionalUpdate() {
+        UpdateEventDTO changes = new UpdateEventDTO();
+        changes.setDescription("Renamed");
+        when(eventRepository.updateFieldsIfOwned(10L, 1L, changes)).thenReturn(1);
+
+        eventService.updateEvent(10L, changes);
+
+        verify(eventRepository, never()).save(any());
+        verifyNoInteractions(userEventRepository);
+    }
+
+    @Test
+    void testUpdateEvent_EmptyChangesStillCheckOwnership() {
+        UpdateEventDTO changes = new UpdateEventDTO();
+        when(eventRepository.updateFieldsIfOwned(10L, 1L, changes)).thenReturn(0);
+        when(userEventRepository.existsByUserAndEventId(user, 10L)).thenReturn(false);
+        when(eventRepository.existsById(10L)).thenReturn(true);
+
+        Exception exception = assertThrows(RuntimeException.class, () -> eventService.updateEvent(10L, changes));
+
+        assertEquals("Event not assigned to user!", exception.getMessage());
+    }
+}
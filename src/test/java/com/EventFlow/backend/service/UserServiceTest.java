@@ -15,12 +15,17 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import com.EventFlow.backend.dto.RegisterUserDTO;
 import com.EventFlow.backend.dto.UpdateUserDTO;
 import com.EventFlow.backend.dto.UserDTO;
+import com.EventFlow.backend.model.Contact;
 import com.EventFlow.backend.model.User;
 import com.EventFlow.backend.repository.ContactRepository;
 import com.EventFlow.backend.repository.UserRepository;
+import com.EventFlow.backend.security.AuthenticatedUserToken;
+import com.EventFlow.backend.security.AuthenticatedUserCache;
 import com.EventFlow.backend.security.JwtUtil;
 import com.EventFlow.backend.service.UserService;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,6 +46,12 @@ public class UserServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private AuthenticatedUserCache userCache;
+
+    @Mock
+    private ContactGraph contactGraph;
+
     @Mock
     private Authentication authentication;
 
@@ -161,4 +172,80 @@ public class UserServiceTest {
         assertEquals("User not found", exception.getMessage());
     }
 
+    @Test
+    void testGetAuthenticatedUser_FromPrincipal() {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject(String.valueOf(user.getId()))
+                .build();
+        SecurityContextHolder.setContext(securityContext);
+        when(securityContext.getAuthentication()).thenReturn(new AuthenticatedUserToken(jwt, user, Collections.emptyList()));
+
+        User result = userService.getAuthenticatedUser();
+
+        assertSame(user, result);
+        verify(userRepository, never()).findById(any());
+    }
+
+    private void authenticateAs(User principal) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject(String.valueOf(principal.getId()))
+                .build();
+        SecurityContextHolder.setContext(securityContext);
+        when(securityContext.getAuthentication()).thenReturn(new AuthenticatedUserToken(jwt, principal, Collections.emptyList()));
+    }
+
+    @Test
+    void testDeleteContact_FindsEitherDirectionInOneQuery() {
+        User friend = new User();
+        friend.setId(2L);
+        Contact contact = new Contact();
+        contact.setSender(friend);
+        contact.setContact(user);
+        contact.setContactAccepted(true);
+        authenticateAs(user);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(friend));
+        when(contactRepository.findBetween(1L, 2L)).thenReturn(Optional.of(contact));
+
+        userService.deleteContact(2L);
+
+        verify(contactRepository).delete(contact);
+        verify(contactRepository, never()).findBySenderAndContact(any(), any());
+        verify(contactGraph).removeFriendship(1L, 2L);
+    }
+
+    @Test
+    void testSendFriendRequest_AlreadyConnected() {
+        User friend = new User();
+        friend.setId(2L);
+        authenticateAs(user);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(friend));
+        when(contactRepository.findBetween(1L, 2L)).thenReturn(Optional.of(new Contact()));
+
+        Exception exception = assertThrows(RuntimeException.class, () -> userService.sendFriendRequest(2L));
+
+        assertEquals("Friend request already sent or user is already a contact!", exception.getMessage());
+        verify(contactRepository, never()).save(any());
+    }
+
+    @Test
+    void testGetContacts_FromContactGraph() {
+        User first = new User();
+        first.setId(2L);
+        first.setEmail("first@example.com");
+        User second = new User();
+        second.setId(3L);
+        second.setEmail("second@example.com");
+        authenticateAs(user);
+        when(contactGraph.contactsOf(1L)).thenReturn(new long[] { 2L, 3L });
+        when(userRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(second, first));
+
+        List<UserDTO> contacts = userService.getContacts();
+
+        assertEquals(2, contacts.size());
+        assertEquals("first@example.com", contacts.get(0).getEmail());
+        verify(contactRepository, never()).findAcceptedContacts(any());
+    }
+
 }
@@ -18,6 +18,7 @@ import com.EventFlow.backend.dto.UserDTO;
 import com.EventFlow.backend.model.User;
 import com.EventFlow.backend.repository.ContactRepository;
 import com.EventFlow.backend.repository.UserRepository;
+import com.EventFlow.backend.security.AuthenticatedUserCache;
 import com.EventFlow.backend.security.JwtUtil;
 import com.EventFlow.backend.service.UserService;
 
@@ -41,6 +42,12 @@ public class UserServiceTest2 {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private AuthenticatedUserCache userCache;
+
+    @Mock
+    private ContactGraph contactGraph;
+
     @Mock
     private Authentication authentication;
 
@@ -107,6 +114,7 @@ public class UserServiceTest2 {
         userService.deleteUser();
 
         verify(userRepository, times(1)).deleteById(user.getId());
+        verify(userCache, times(1)).invalidate(user.getId());
     }
 
 }